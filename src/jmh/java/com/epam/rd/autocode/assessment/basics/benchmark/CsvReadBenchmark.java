@@ -0,0 +1,58 @@
+package com.epam.rd.autocode.assessment.basics.benchmark;
+
+import com.epam.rd.autocode.assessment.basics.service.CsvStorageImpl;
+import com.epam.rd.autocode.assessment.basics.service.MapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(3)
+public class CsvReadBenchmark {
+
+  @Param({"BOOK", "CLIENT", "EMPLOYEE", "ORDER"})
+  EntityKind entity;
+
+  @Param({"DEFAULT", "SEMICOLON", "NO_HEADER"})
+  Dialect dialect;
+
+  @Param("10000")
+  int rows;
+
+  private CsvStorageImpl storage;
+  private Function<String[], Object> reader;
+  private byte[] data;
+
+  @Setup
+  public void setUp() throws IOException {
+    storage = dialect.storage();
+    reader = entity.reader(new MapperImpl());
+    data = entity.data(dialect, rows, 42);
+  }
+
+  @Benchmark
+  public List<Object> read(Throughput throughput) throws IOException {
+    List<Object> result = storage.read(new ByteArrayInputStream(data), reader);
+    throughput.bytes += data.length;
+    throughput.rows += result.size();
+    return result;
+  }
+}
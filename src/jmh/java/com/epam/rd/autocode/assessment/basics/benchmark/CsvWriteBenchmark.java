@@ -0,0 +1,61 @@
+package com.epam.rd.autocode.assessment.basics.benchmark;
+
+import com.epam.rd.autocode.assessment.basics.service.CsvStorageImpl;
+import com.epam.rd.autocode.assessment.basics.service.MapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(3)
+public class CsvWriteBenchmark {
+
+  @Param({"BOOK", "CLIENT", "EMPLOYEE", "ORDER"})
+  EntityKind entity;
+
+  @Param({"DEFAULT", "SEMICOLON"})
+  Dialect dialect;
+
+  @Param("10000")
+  int rows;
+
+  private CsvStorageImpl storage;
+  private Function<Object, String[]> writer;
+  private List<Object> values;
+  private ByteArrayOutputStream out;
+
+  @Setup
+  public void setUp() throws IOException {
+    storage = dialect.storage();
+    writer = entity.writer(new MapperImpl());
+    values = entity.rows(rows, 42);
+    out = new ByteArrayOutputStream();
+  }
+
+  @Benchmark
+  public int write(Throughput throughput) throws IOException {
+    out.reset();
+    storage.write(out, values, writer);
+    throughput.bytes += out.size();
+    throughput.rows += values.size();
+    return out.size();
+  }
+}
@@ -0,0 +1,36 @@
+package com.epam.rd.autocode.assessment.basics.benchmark;
+
+import com.epam.rd.autocode.assessment.basics.service.CsvStorageImpl;
+
+import java.util.Map;
+
+public enum Dialect {
+  DEFAULT(",", true),
+  SEMICOLON(";", true),
+  NO_HEADER(";", false);
+
+  private final String delimiter;
+  private final boolean headerLine;
+
+  Dialect(String delimiter, boolean headerLine) {
+    this.delimiter = delimiter;
+    this.headerLine = headerLine;
+  }
+
+  public CsvStorageImpl storage() {
+    if (this == DEFAULT) {
+      return new CsvStorageImpl();
+    }
+    return new CsvStorageImpl(Map.of("quoteCharacter", "'",
+            "valuesDelimiter", delimiter,
+            "headerLine", String.valueOf(headerLine)));
+  }
+
+  public String delimiter() {
+    return delimiter;
+  }
+
+  public boolean hasHeader() {
+    return headerLine;
+  }
+}
@@ -0,0 +1,112 @@
+package com.epam.rd.autocode.assessment.basics.benchmark;
+
+import com.epam.rd.autocode.assessment.basics.entity.Book;
+import com.epam.rd.autocode.assessment.basics.entity.Client;
+import com.epam.rd.autocode.assessment.basics.entity.Employee;
+import com.epam.rd.autocode.assessment.basics.entity.Order;
+import com.epam.rd.autocode.assessment.basics.generator.DatasetGenerator;
+import com.epam.rd.autocode.assessment.basics.service.CsvStorage;
+import com.epam.rd.autocode.assessment.basics.service.Mapper;
+import com.epam.rd.autocode.assessment.basics.service.MapperImpl;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * The four entities together with their generated data and mapper functions, so every
+ * benchmark can be parameterized by entity.
+ */
+@SuppressWarnings({"unchecked", "rawtypes"})
+public enum EntityKind {
+  BOOK {
+    @Override
+    void generate(DatasetGenerator generator, CsvStorage storage, OutputStream dest, int rows) throws IOException {
+      generator.writeBooks(storage, dest, rows);
+    }
+
+    @Override
+    Function<String[], Object> reader(Mapper mapper) {
+      return (Function) (Function<String[], Book>) mapper::csvToBook;
+    }
+
+    @Override
+    Function<Object, String[]> writer(Mapper mapper) {
+      return (Function) (Function<Book, String[]>) mapper::bookToCsv;
+    }
+  },
+  CLIENT {
+    @Override
+    void generate(DatasetGenerator generator, CsvStorage storage, OutputStream dest, int rows) throws IOException {
+      generator.writeClients(storage, dest, rows);
+    }
+
+    @Override
+    Function<String[], Object> reader(Mapper mapper) {
+      return (Function) (Function<String[], Client>) mapper::csvToClient;
+    }
+
+    @Override
+    Function<Object, String[]> writer(Mapper mapper) {
+      return (Function) (Function<Client, String[]>) mapper::clientToCsv;
+    }
+  },
+  EMPLOYEE {
+    @Override
+    void generate(DatasetGenerator generator, CsvStorage storage, OutputStream dest, int rows) throws IOException {
+      generator.writeEmployees(storage, dest, rows);
+    }
+
+    @Override
+    Function<String[], Object> reader(Mapper mapper) {
+      return (Function) (Function<String[], Employee>) mapper::csvToEmployee;
+    }
+
+    @Override
+    Function<Object, String[]> writer(Mapper mapper) {
+      return (Function) (Function<Employee, String[]>) mapper::employeeToCsv;
+    }
+  },
+  ORDER {
+    @Override
+    void generate(DatasetGenerator generator, CsvStorage storage, OutputStream dest, int rows) throws IOException {
+      generator.writeOrders(storage, dest, rows, 50_000, 100_000, 200);
+    }
+
+    @Override
+    Function<String[], Object> reader(Mapper mapper) {
+      return (Function) (Function<String[], Order>) mapper::csvToOrder;
+    }
+
+    @Override
+    Function<Object, String[]> writer(Mapper mapper) {
+      return (Function) (Function<Order, String[]>) mapper::orderToCsv;
+    }
+  };
+
+  abstract void generate(DatasetGenerator generator, CsvStorage storage, OutputStream dest,
+                         int rows) throws IOException;
+
+  abstract Function<String[], Object> reader(Mapper mapper);
+
+  abstract Function<Object, String[]> writer(Mapper mapper);
+
+  /**
+   * Generated csv data for this entity in the given dialect.
+   */
+  byte[] data(Dialect dialect, int rows, long seed) throws IOException {
+    DatasetGenerator generator = new DatasetGenerator(seed);
+    generator.setHeaderLine(dialect.hasHeader());
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    generate(generator, dialect.storage(), out, rows);
+    return out.toByteArray();
+  }
+
+  List<Object> rows(int count, long seed) throws IOException {
+    byte[] data = data(Dialect.NO_HEADER, count, seed);
+    return Dialect.NO_HEADER.storage().read(new ByteArrayInputStream(data), reader(new MapperImpl()));
+  }
+}
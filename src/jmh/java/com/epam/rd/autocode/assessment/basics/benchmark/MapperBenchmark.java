@@ -0,0 +1,66 @@
+package com.epam.rd.autocode.assessment.basics.benchmark;
+
+import com.epam.rd.autocode.assessment.basics.service.MapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Per-row cost of the mapper alone, without tokenizing or I/O.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(3)
+public class MapperBenchmark {
+  private static final int ROWS = 1024;
+
+  @Param({"BOOK", "CLIENT", "EMPLOYEE", "ORDER"})
+  EntityKind entity;
+
+  private Function<String[], Object> reader;
+  private Function<Object, String[]> writer;
+  private Object[] values;
+  private String[][] lines;
+  private int next;
+
+  @Setup
+  public void setUp() throws IOException {
+    MapperImpl mapper = new MapperImpl();
+    reader = entity.reader(mapper);
+    writer = entity.writer(mapper);
+    List<Object> rows = entity.rows(ROWS, 42);
+    values = rows.toArray();
+    lines = new String[ROWS][];
+    for (int i = 0; i < ROWS; i++) {
+      lines[i] = writer.apply(values[i]);
+    }
+  }
+
+  @Benchmark
+  public Object csvToEntity() {
+    next = (next + 1) & (ROWS - 1);
+    return reader.apply(lines[next]);
+  }
+
+  @Benchmark
+  public String[] entityToCsv() {
+    next = (next + 1) & (ROWS - 1);
+    return writer.apply(values[next]);
+  }
+}
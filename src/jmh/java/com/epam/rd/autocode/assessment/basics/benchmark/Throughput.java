@@ -0,0 +1,24 @@
+package com.epam.rd.autocode.assessment.basics.benchmark;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Secondary counters that JMH reports as rates next to the primary score, which gives
+ * bytes/s and rows/s for every read and write benchmark.
+ */
+@State(Scope.Thread)
+@AuxCounters(AuxCounters.Type.OPERATIONS)
+public class Throughput {
+  public long bytes;
+  public long rows;
+
+  @Setup(Level.Iteration)
+  public void reset() {
+    bytes = 0;
+    rows = 0;
+  }
+}
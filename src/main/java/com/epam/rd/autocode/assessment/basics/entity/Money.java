@@ -0,0 +1,227 @@
+package com.epam.rd.autocode.assessment.basics.entity;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * An exact decimal amount held as a count of minor units with a fixed scale,
+ * e.g. {@code 12.99} is 1299 units at scale 2. The static methods work on plain longs,
+ * so hot loops can parse, add and format amounts without creating objects.
+ * Like {@link BigDecimal}, equality takes the scale into account and ordering does not.
+ */
+public final class Money implements Comparable<Money>, Serializable {
+  public static final int MAX_SCALE = 18;
+
+  private static final long[] POWERS_OF_TEN = new long[MAX_SCALE + 1];
+
+  static {
+    POWERS_OF_TEN[0] = 1;
+    for (int i = 1; i <= MAX_SCALE; i++) {
+      POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+    }
+  }
+
+  private final long minorUnits;
+  private final int scale;
+
+  private Money(long minorUnits, int scale) {
+    this.minorUnits = minorUnits;
+    this.scale = scale;
+  }
+
+  public static Money of(long minorUnits, int scale) {
+    checkScale(scale);
+    return new Money(minorUnits, scale);
+  }
+
+  /**
+   * @throws ArithmeticException if the value does not fit a long at a scale up to {@link #MAX_SCALE}
+   */
+  public static Money valueOf(BigDecimal value) {
+    BigDecimal normalized = value.scale() < 0 ? value.setScale(0) : value;
+    checkScale(normalized.scale());
+    return new Money(normalized.unscaledValue().longValueExact(), normalized.scale());
+  }
+
+  public static Money parse(CharSequence text) {
+    return parse(text, 0, text.length());
+  }
+
+  /**
+   * Parses a plain decimal such as {@code -12.50}, keeping the scale it is written with.
+   */
+  public static Money parse(CharSequence text, int start, int end) {
+    int scale = scaleOf(text, start, end);
+    return new Money(parseMinor(text, start, end, scale), scale);
+  }
+
+  /**
+   * The number of fraction digits written in a plain decimal.
+   */
+  public static int scaleOf(CharSequence text, int start, int end) {
+    for (int i = start; i < end; i++) {
+      if (text.charAt(i) == '.') {
+        return end - i - 1;
+      }
+    }
+    return 0;
+  }
+
+  /**
+   * Parses a plain decimal straight into minor units of the given scale.
+   *
+   * @throws NumberFormatException if the text is not a plain decimal
+   * @throws ArithmeticException   if the value needs rounding or overflows a long at that scale
+   */
+  public static long parseMinor(CharSequence text, int start, int end, int scale) {
+    checkScale(scale);
+    int i = start;
+    boolean negative = false;
+    if (i < end && (text.charAt(i) == '-' || text.charAt(i) == '+')) {
+      negative = text.charAt(i) == '-';
+      i++;
+    }
+    long value = 0;
+    int digits = 0;
+    int fractionDigits = -1;
+    for (; i < end; i++) {
+      char c = text.charAt(i);
+      if (c == '.' && fractionDigits < 0) {
+        fractionDigits = 0;
+        continue;
+      }
+      if (c < '0' || c > '9') {
+        throw new NumberFormatException("Not a plain decimal: \"" + text.subSequence(start, end) + "\"");
+      }
+      digits++;
+      if (fractionDigits >= 0 && ++fractionDigits > scale) {
+        if (c != '0') {
+          throw new ArithmeticException("Rounding necessary for scale " + scale);
+        }
+        continue;
+      }
+      // Accumulate negatively so that Long.MIN_VALUE is reachable
+      value = Math.subtractExact(Math.multiplyExact(value, 10), c - '0');
+    }
+    if (digits == 0) {
+      throw new NumberFormatException("Not a plain decimal: \"" + text.subSequence(start, end) + "\"");
+    }
+    int written = Math.max(0, Math.min(fractionDigits, scale));
+    value = Math.multiplyExact(value, POWERS_OF_TEN[scale - written]);
+    return negative ? value : Math.negateExact(value);
+  }
+
+  /**
+   * Formats minor units as a plain decimal with exactly {@code scale} fraction digits.
+   */
+  public static String format(long minorUnits, int scale) {
+    checkScale(scale);
+    StringBuilder text = new StringBuilder(21);
+    String digits = minorUnits < 0
+            ? Long.toString(minorUnits).substring(1)
+            : Long.toString(minorUnits);
+    if (minorUnits < 0) {
+      text.append('-');
+    }
+    if (scale == 0) {
+      return text.append(digits).toString();
+    }
+    int integerDigits = digits.length() - scale;
+    if (integerDigits <= 0) {
+      text.append("0.");
+      text.append("0".repeat(-integerDigits));
+      text.append(digits);
+    } else {
+      text.append(digits, 0, integerDigits).append('.').append(digits, integerDigits, digits.length());
+    }
+    return text.toString();
+  }
+
+  /**
+   * Converts minor units between scales, failing instead of rounding.
+   */
+  public static long rescale(long minorUnits, int fromScale, int toScale) {
+    checkScale(fromScale);
+    checkScale(toScale);
+    if (toScale >= fromScale) {
+      return Math.multiplyExact(minorUnits, POWERS_OF_TEN[toScale - fromScale]);
+    }
+    long divisor = POWERS_OF_TEN[fromScale - toScale];
+    if (minorUnits % divisor != 0) {
+      throw new ArithmeticException("Rounding necessary for scale " + toScale);
+    }
+    return minorUnits / divisor;
+  }
+
+  /**
+   * The amount in minor units of the given scale, for summing without {@link BigDecimal}.
+   */
+  public static long toMinor(BigDecimal value, int scale) {
+    checkScale(scale);
+    return value.setScale(scale).unscaledValue().longValueExact();
+  }
+
+  public long getMinorUnits() {
+    return minorUnits;
+  }
+
+  public int getScale() {
+    return scale;
+  }
+
+  public long getMinorUnits(int targetScale) {
+    return rescale(minorUnits, scale, targetScale);
+  }
+
+  public Money plus(Money other) {
+    int target = Math.max(scale, other.scale);
+    return new Money(Math.addExact(getMinorUnits(target), other.getMinorUnits(target)), target);
+  }
+
+  public Money times(long factor) {
+    return new Money(Math.multiplyExact(minorUnits, factor), scale);
+  }
+
+  public BigDecimal toBigDecimal() {
+    return BigDecimal.valueOf(minorUnits, scale);
+  }
+
+  @Override
+  public int compareTo(Money other) {
+    if (scale == other.scale) {
+      return Long.compare(minorUnits, other.minorUnits);
+    }
+    int target = Math.max(scale, other.scale);
+    try {
+      return Long.compare(getMinorUnits(target), other.getMinorUnits(target));
+    } catch (ArithmeticException e) {
+      return BigInteger.valueOf(minorUnits).multiply(BigInteger.TEN.pow(target - scale))
+              .compareTo(BigInteger.valueOf(other.minorUnits).multiply(BigInteger.TEN.pow(target - other.scale)));
+    }
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    Money money = (Money) o;
+    return minorUnits == money.minorUnits && scale == money.scale;
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * Long.hashCode(minorUnits) + scale;
+  }
+
+  @Override
+  public String toString() {
+    return format(minorUnits, scale);
+  }
+
+  private static void checkScale(int scale) {
+    if (scale < 0 || scale > MAX_SCALE) {
+      throw new IllegalArgumentException("Scale out of range: " + scale);
+    }
+  }
+}
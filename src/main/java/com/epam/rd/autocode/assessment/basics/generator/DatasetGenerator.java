@@ -0,0 +1,302 @@
+package com.epam.rd.autocode.assessment.basics.generator;
+
+import com.epam.rd.autocode.assessment.basics.entity.Book;
+import com.epam.rd.autocode.assessment.basics.entity.Client;
+import com.epam.rd.autocode.assessment.basics.entity.Employee;
+import com.epam.rd.autocode.assessment.basics.entity.Order;
+import com.epam.rd.autocode.assessment.basics.entity.enums.AgeGroup;
+import com.epam.rd.autocode.assessment.basics.entity.enums.Language;
+import com.epam.rd.autocode.assessment.basics.service.CsvStorage;
+import com.epam.rd.autocode.assessment.basics.service.CsvStorageImpl;
+import com.epam.rd.autocode.assessment.basics.service.CsvWriter;
+import com.epam.rd.autocode.assessment.basics.service.Mapper;
+import com.epam.rd.autocode.assessment.basics.service.MapperImpl;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+
+/**
+ * Writes large, valid csv data sets for books, clients, employees and orders. The output is
+ * fully determined by the seed: every entity has its own random sequence, and book prices are
+ * derived from the book id so orders can be priced without keeping the catalog in memory.
+ * Rows are produced lazily and written through a {@link CsvWriter} session, so memory use does
+ * not depend on the row count.
+ */
+public class DatasetGenerator {
+  private static final String[] BOOK_HEADER = {"id", "name", "genre", "ageGroup", "price", "publicationDate",
+          "author", "numberOfPages", "characteristics", "description", "language"};
+  private static final String[] CLIENT_HEADER = {"id", "email", "password", "name", "balance"};
+  private static final String[] EMPLOYEE_HEADER = {"id", "email", "password", "name", "phone", "birthDate"};
+  private static final String[] ORDER_HEADER = {"id", "clientId", "employeeId", "bookId", "numberOfBooks",
+          "orderDate", "price"};
+
+  private static final String[] GENRES = {"Fiction", "Classics", "Fantasy", "Mystery", "Romance", "Thriller",
+          "Science Fiction", "History", "Biography", "Poetry", "Horror", "Self-Help", "Travel", "Cooking",
+          "Children", "Philosophy", "Science", "Art", "Religion", "Business"};
+  private static final String[] CHARACTERISTICS = {"Paperback", "Hardcover", "E-book", "Audiobook",
+          "Hardcover, illustrated", "Paperback, large print", "Collectors edition", "Pocket edition",
+          "Signed copy", "Boxed set", "Annotated", "Abridged", "Unabridged", "Bilingual", "First edition"};
+  private static final String[] FIRST_NAMES = {"Olena", "Taras", "Anna", "John", "Maria", "Ivan", "Emma",
+          "Liam", "Sofia", "Noah", "Haruki", "Yuki", "Pierre", "Claire", "Hans", "Greta", "Carlos", "Lucia",
+          "Andrii", "Iryna", "Oliver", "Amelia", "Mateo", "Chloe", "Dmytro"};
+  private static final String[] LAST_NAMES = {"Shevchenko", "Smith", "Kovalenko", "Brown", "Murakami",
+          "Dubois", "Muller", "Garcia", "Bondarenko", "Johnson", "Tanaka", "Martin", "Schmidt", "Lopez",
+          "Melnyk", "Wilson", "Sato", "Bernard", "Weber", "Fernandez", "Tkachenko", "Taylor", "Kimura"};
+  private static final String[] WORDS = {"river", "night", "garden", "silent", "empire", "stone", "winter",
+          "journey", "shadow", "letters", "city", "golden", "forgotten", "sea", "house", "star", "war", "road",
+          "secret", "fire", "mountain", "memory", "glass", "storm", "island", "clock", "bridge", "wolf", "light",
+          "crown", "dream", "harbor", "song", "last", "first", "small", "wild", "broken", "hidden", "long"};
+
+  private static final LocalDate FIRST_PUBLICATION = LocalDate.of(1900, 1, 1);
+  private static final LocalDate FIRST_BIRTH_DATE = LocalDate.of(1960, 1, 1);
+  private static final LocalDateTime FIRST_ORDER = LocalDateTime.of(2020, 1, 1, 8, 0);
+
+  private static final long BOOK_SALT = 0x9E3779B97F4A7C15L;
+  private static final long CLIENT_SALT = 0xC2B2AE3D27D4EB4FL;
+  private static final long EMPLOYEE_SALT = 0x165667B19E3779F9L;
+  private static final long ORDER_SALT = 0x27D4EB2F165667C5L;
+  private static final long PRICE_SALT = 0x85EBCA77C2B2AE63L;
+
+  private final long seed;
+  private final Mapper mapper = new MapperImpl();
+  private final ZipfSampler genres = new ZipfSampler(GENRES.length, 1.2);
+  private final ZipfSampler characteristics = new ZipfSampler(CHARACTERISTICS.length, 1.5);
+  private final ZipfSampler languages = new ZipfSampler(Language.values().length, 2.0);
+  private final String[] authors;
+  private final ZipfSampler authorChoice;
+
+  private double wideDescriptionRatio = 0.05;
+  private int wideDescriptionLength = 2048;
+  private double emptyValueRatio = 0.01;
+  private boolean headerLine = true;
+
+  public DatasetGenerator(long seed) {
+    this.seed = seed;
+    SplittableRandom random = new SplittableRandom(seed);
+    authors = new String[2000];
+    for (int i = 0; i < authors.length; i++) {
+      authors[i] = personName(random);
+    }
+    authorChoice = new ZipfSampler(authors.length, 1.1);
+  }
+
+  public void setWideDescriptionRatio(double wideDescriptionRatio) {
+    this.wideDescriptionRatio = wideDescriptionRatio;
+  }
+
+  public void setWideDescriptionLength(int wideDescriptionLength) {
+    this.wideDescriptionLength = wideDescriptionLength;
+  }
+
+  public void setEmptyValueRatio(double emptyValueRatio) {
+    this.emptyValueRatio = emptyValueRatio;
+  }
+
+  public void setHeaderLine(boolean headerLine) {
+    this.headerLine = headerLine;
+  }
+
+  public void writeBooks(CsvStorage storage, OutputStream dest, long count) throws IOException {
+    SplittableRandom random = new SplittableRandom(seed ^ BOOK_SALT);
+    write(storage, dest, BOOK_HEADER, count, id -> book(random, id), mapper::bookToCsv);
+  }
+
+  public void writeClients(CsvStorage storage, OutputStream dest, long count) throws IOException {
+    SplittableRandom random = new SplittableRandom(seed ^ CLIENT_SALT);
+    write(storage, dest, CLIENT_HEADER, count, id -> client(random, id), mapper::clientToCsv);
+  }
+
+  public void writeEmployees(CsvStorage storage, OutputStream dest, long count) throws IOException {
+    SplittableRandom random = new SplittableRandom(seed ^ EMPLOYEE_SALT);
+    write(storage, dest, EMPLOYEE_HEADER, count, id -> employee(random, id), mapper::employeeToCsv);
+  }
+
+  /**
+   * Writes orders whose client, employee and book ids all lie in {@code [1, count]} of the
+   * corresponding data set. Order dates never decrease.
+   */
+  public void writeOrders(CsvStorage storage, OutputStream dest, long count,
+                          long books, long clients, long employees) throws IOException {
+    if (books < 1 || clients < 1 || employees < 1) {
+      throw new IllegalArgumentException("Orders need at least one book, client and employee");
+    }
+    SplittableRandom random = new SplittableRandom(seed ^ ORDER_SALT);
+    long[] minutes = new long[1];
+    write(storage, dest, ORDER_HEADER, count, id -> {
+      minutes[0] += random.nextInt(3);
+      long bookId = skewedId(random, books, 3);
+      int numberOfBooks = random.nextInt(10) < 7 ? 1 : 2 + random.nextInt(4);
+      return new Order(id, skewedId(random, clients, 2), 1 + random.nextLong(employees), bookId, numberOfBooks,
+              FIRST_ORDER.plusMinutes(minutes[0]), bookPrice(bookId).multiply(BigDecimal.valueOf(numberOfBooks)));
+    }, mapper::orderToCsv);
+  }
+
+  public void generate(CsvStorage storage, Path dir, long books, long clients,
+                       long employees, long orders) throws IOException {
+    Files.createDirectories(dir);
+    try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(dir.resolve("books.csv")))) {
+      writeBooks(storage, out, books);
+    }
+    try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(dir.resolve("clients.csv")))) {
+      writeClients(storage, out, clients);
+    }
+    try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(dir.resolve("employees.csv")))) {
+      writeEmployees(storage, out, employees);
+    }
+    try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(dir.resolve("orders.csv")))) {
+      writeOrders(storage, out, orders, books, clients, employees);
+    }
+  }
+
+  /**
+   * The price of a book, derived from its id so that it is stable across runs.
+   */
+  public BigDecimal bookPrice(long bookId) {
+    long hash = mix(seed ^ PRICE_SALT ^ bookId);
+    return BigDecimal.valueOf(199 + Math.floorMod(hash, 9800), 2);
+  }
+
+  private <T> void write(CsvStorage storage, OutputStream dest, String[] header, long count,
+                         LongFunction<T> row, Function<T, String[]> toCsv) throws IOException {
+    if (headerLine) {
+      try (CsvWriter<String[]> writer = storage.openWriter(dest, Function.identity())) {
+        writer.write(header);
+      }
+    }
+    try (CsvWriter<T> writer = storage.openWriter(dest, toCsv)) {
+      writer.writeAll(new Iterator<T>() {
+        private long id;
+
+        @Override
+        public boolean hasNext() {
+          return id < count;
+        }
+
+        @Override
+        public T next() {
+          if (!hasNext()) {
+            throw new NoSuchElementException();
+          }
+          return row.apply(++id);
+        }
+      });
+    }
+  }
+
+  private Book book(SplittableRandom random, long id) {
+    return new Book(id,
+            text(random, title(random)),
+            text(random, GENRES[genres.next(random)]),
+            empty(random) ? null : AgeGroup.values()[random.nextInt(AgeGroup.values().length)],
+            empty(random) ? null : bookPrice(id),
+            empty(random) ? null : FIRST_PUBLICATION.plusDays(random.nextInt(45_000)),
+            text(random, authors[authorChoice.next(random)]),
+            40 + random.nextInt(1200),
+            text(random, CHARACTERISTICS[characteristics.next(random)]),
+            text(random, description(random)),
+            empty(random) ? null : Language.values()[languages.next(random)]);
+  }
+
+  private Client client(SplittableRandom random, long id) {
+    String name = personName(random);
+    return new Client(id,
+            text(random, email(name, id)),
+            text(random, password(random)),
+            text(random, name),
+            empty(random) ? null : BigDecimal.valueOf(random.nextLong(1_000_000), 2));
+  }
+
+  private Employee employee(SplittableRandom random, long id) {
+    String name = personName(random);
+    return new Employee(id,
+            text(random, email(name, id)),
+            text(random, password(random)),
+            text(random, name),
+            text(random, String.format(Locale.ROOT, "%03d-%03d-%02d-%02d", random.nextInt(1000), random.nextInt(1000),
+                    random.nextInt(100), random.nextInt(100))),
+            empty(random) ? null : FIRST_BIRTH_DATE.plusDays(random.nextInt(15_000)));
+  }
+
+  private String title(SplittableRandom random) {
+    StringBuilder title = new StringBuilder("The");
+    for (int i = 0, words = 1 + random.nextInt(4); i < words; i++) {
+      String word = WORDS[random.nextInt(WORDS.length)];
+      title.append(' ').append(Character.toUpperCase(word.charAt(0))).append(word, 1, word.length());
+    }
+    return title.toString();
+  }
+
+  private String description(SplittableRandom random) {
+    int length = random.nextDouble() < wideDescriptionRatio ? wideDescriptionLength : 40 + random.nextInt(80);
+    StringBuilder description = new StringBuilder(length + 16);
+    description.append("A story of");
+    while (description.length() < length) {
+      int punctuation = random.nextInt(12);
+      // Commas and semicolons force the field to be quoted in both common dialects
+      description.append(punctuation == 0 ? ", " : punctuation == 1 ? "; " : " ")
+              .append(WORDS[random.nextInt(WORDS.length)]);
+    }
+    return description.toString();
+  }
+
+  private String personName(SplittableRandom random) {
+    return FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " " + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+  }
+
+  private static String email(String name, long id) {
+    return name.toLowerCase(Locale.ROOT).replace(' ', '.') + id + "@bookstore.com";
+  }
+
+  private static String password(SplittableRandom random) {
+    String symbols = "abcdefghijkmnopqrstuvwxyzABCDEFGHJKLMNPQRSTUVWXYZ23456789#$%&;,";
+    char[] password = new char[8 + random.nextInt(8)];
+    for (int i = 0; i < password.length; i++) {
+      password[i] = symbols.charAt(random.nextInt(symbols.length()));
+    }
+    return new String(password);
+  }
+
+  private boolean empty(SplittableRandom random) {
+    return emptyValueRatio > 0 && random.nextDouble() < emptyValueRatio;
+  }
+
+  private String text(SplittableRandom random, String value) {
+    if (!empty(random)) {
+      return value;
+    }
+    // Written as an empty field (null) or as a quoted empty string ("")
+    return random.nextBoolean() ? null : "";
+  }
+
+  private static long skewedId(SplittableRandom random, long count, int power) {
+    return 1 + Math.min(count - 1, (long) (count * Math.pow(random.nextDouble(), power)));
+  }
+
+  private static long mix(long value) {
+    value = (value ^ (value >>> 33)) * 0xFF51AFD7ED558CCDL;
+    value = (value ^ (value >>> 33)) * 0xC4CEB9FE1A85EC53L;
+    return value ^ (value >>> 33);
+  }
+
+  public static void main(String[] args) throws IOException {
+    if (args.length < 5) {
+      System.err.println("Usage: DatasetGenerator <dir> <books> <clients> <employees> <orders> [seed]");
+      System.exit(1);
+    }
+    DatasetGenerator generator = new DatasetGenerator(args.length > 5 ? Long.parseLong(args[5]) : 42);
+    generator.generate(new CsvStorageImpl(), Path.of(args[0]), Long.parseLong(args[1]),
+            Long.parseLong(args[2]), Long.parseLong(args[3]), Long.parseLong(args[4]));
+  }
+}
@@ -0,0 +1,30 @@
+package com.epam.rd.autocode.assessment.basics.generator;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Picks indexes in {@code [0, size)} where index {@code k} is chosen with a probability
+ * proportional to {@code 1 / (k + 1)^exponent}, so the first values dominate.
+ */
+final class ZipfSampler {
+  private final double[] cumulative;
+
+  ZipfSampler(int size, double exponent) {
+    cumulative = new double[size];
+    double sum = 0;
+    for (int k = 0; k < size; k++) {
+      sum += 1 / Math.pow(k + 1, exponent);
+      cumulative[k] = sum;
+    }
+    for (int k = 0; k < size; k++) {
+      cumulative[k] /= sum;
+    }
+  }
+
+  int next(SplittableRandom random) {
+    int index = Arrays.binarySearch(cumulative, random.nextDouble());
+    int k = index >= 0 ? index : -index - 1;
+    return Math.min(k, cumulative.length - 1);
+  }
+}
@@ -0,0 +1,117 @@
+package com.epam.rd.autocode.assessment.basics.query;
+
+import com.epam.rd.autocode.assessment.basics.repository.LongIntHashMap;
+import com.epam.rd.autocode.assessment.basics.service.CsvStorage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+
+/**
+ * An inner equi-join on {@code long} keys. The build side, normally the smaller one such as books
+ * or clients, is held in a table from key to rows; the probe side, normally orders, is streamed
+ * through it and every matching pair goes to a consumer, so the join result is never collected.
+ * Rows sharing a build key all match, in the order they were built.
+ * <p>
+ * A built join is read-only, so several threads may probe it at once; the parallel
+ * {@link #probe(CsvStorage, Path, Function, ToLongFunction, BiConsumer, int)} does that over
+ * record-aligned chunks of a file.
+ */
+public final class HashJoin<B> {
+  private static final int END = -1;
+
+  private final LongIntHashMap heads;
+  private final Object[] rows;
+  private final int[] next;
+
+  private HashJoin(LongIntHashMap heads, Object[] rows, int[] next) {
+    this.heads = heads;
+    this.rows = rows;
+    this.next = next;
+  }
+
+  public static <B> HashJoin<B> build(List<? extends B> rows, ToLongFunction<? super B> key) {
+    LongIntHashMap heads = new LongIntHashMap(rows.size());
+    Object[] table = rows.toArray();
+    int[] next = new int[table.length];
+    // Link rows backwards so that each chain lists its rows in build order
+    for (int row = table.length - 1; row >= 0; row--) {
+      @SuppressWarnings("unchecked")
+      long k = key.applyAsLong((B) table[row]);
+      int head = heads.put(k, row);
+      next[row] = head == LongIntHashMap.NO_VALUE ? END : head;
+    }
+    return new HashJoin<>(heads, table, next);
+  }
+
+  public static <B> HashJoin<B> build(CsvStorage storage, InputStream source, Function<String[], B> mapper,
+                                      ToLongFunction<? super B> key) throws IOException {
+    return build(storage.read(source, mapper), key);
+  }
+
+  public int size() {
+    return rows.length;
+  }
+
+  /**
+   * The first build row with the key, or {@code null}.
+   */
+  @SuppressWarnings("unchecked")
+  public B lookup(long key) {
+    int row = heads.get(key);
+    return row == LongIntHashMap.NO_VALUE ? null : (B) rows[row];
+  }
+
+  /**
+   * Passes the probe value with each build row of the same key to the consumer.
+   * A {@code null} value, as mappers return for empty records, matches nothing.
+   *
+   * @return the number of matches
+   */
+  @SuppressWarnings("unchecked")
+  public <P> int probe(P value, ToLongFunction<? super P> key, BiConsumer<? super P, ? super B> consumer) {
+    if (value == null) {
+      return 0;
+    }
+    int matches = 0;
+    for (int row = heads.get(key.applyAsLong(value)); row != END; row = next[row]) {
+      consumer.accept(value, (B) rows[row]);
+      matches++;
+    }
+    return matches;
+  }
+
+  public <P> void probe(Iterable<? extends P> values, ToLongFunction<? super P> key,
+                        BiConsumer<? super P, ? super B> consumer) {
+    for (P value : values) {
+      probe(value, key, consumer);
+    }
+  }
+
+  /**
+   * Streams the csv source through the join one record at a time.
+   */
+  public <P> void probe(CsvStorage storage, InputStream source, Function<String[], P> mapper,
+                        ToLongFunction<? super P> key, BiConsumer<? super P, ? super B> consumer) throws IOException {
+    try (Stream<P> values = storage.stream(source, mapper)) {
+      values.forEach(value -> probe(value, key, consumer));
+    }
+  }
+
+  /**
+   * Probes chunks of the file on up to {@code parallelism} threads. The consumer is called
+   * concurrently and the pairs arrive in no particular order.
+   */
+  public <P> void probe(CsvStorage storage, Path source, Function<String[], P> mapper,
+                        ToLongFunction<? super P> key, BiConsumer<? super P, ? super B> consumer,
+                        int parallelism) throws IOException {
+    Objects.requireNonNull(consumer);
+    storage.forEach(source, mapper, value -> probe(value, key, consumer), parallelism);
+  }
+}
@@ -0,0 +1,142 @@
+package com.epam.rd.autocode.assessment.basics.query;
+
+import com.epam.rd.autocode.assessment.basics.entity.Money;
+import com.epam.rd.autocode.assessment.basics.entity.Order;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Totals revenue, units and order counts of orders by book, employee, client and calendar
+ * month of the order date. The order list is split recursively on a {@link ForkJoinPool};
+ * each leaf task sums its range into its own {@link SalesTable}s, and the tables of sibling
+ * tasks are merged as they join, so no accumulator is shared between threads.
+ * <p>
+ * Revenue is the sum of {@link Order#getPrice()} in minor units of the configured scale;
+ * a price with more fraction digits than that scale fails with an {@link ArithmeticException}.
+ * Orders without a price add no revenue, and orders without a date have no month.
+ */
+public final class SalesAggregator {
+  private static final int LEAF_SIZE = 8192;
+
+  private final ForkJoinPool pool;
+  private final int revenueScale;
+
+  public SalesAggregator() {
+    this(ForkJoinPool.commonPool(), 2);
+  }
+
+  public SalesAggregator(ForkJoinPool pool, int revenueScale) {
+    if (revenueScale < 0 || revenueScale > Money.MAX_SCALE) {
+      throw new IllegalArgumentException("Scale out of range: " + revenueScale);
+    }
+    this.pool = Objects.requireNonNull(pool);
+    this.revenueScale = revenueScale;
+  }
+
+  /**
+   * The month group key of a date, {@code year * 100 + month}, e.g. 202401.
+   */
+  public static long monthKey(YearMonth month) {
+    return month.getYear() * 100L + month.getMonthValue();
+  }
+
+  public static YearMonth month(long monthKey) {
+    return YearMonth.of((int) (monthKey / 100), (int) (monthKey % 100));
+  }
+
+  public Report aggregate(List<Order> orders) {
+    return pool.invoke(new Task(orders, 0, orders.size()));
+  }
+
+  /**
+   * The totals of one aggregation, one table per grouping.
+   */
+  public static final class Report {
+    private final SalesTable byBook;
+    private final SalesTable byEmployee;
+    private final SalesTable byClient;
+    private final SalesTable byMonth;
+
+    private Report(int revenueScale) {
+      byBook = new SalesTable(revenueScale);
+      byEmployee = new SalesTable(revenueScale);
+      byClient = new SalesTable(revenueScale);
+      byMonth = new SalesTable(revenueScale);
+    }
+
+    public SalesTable byBook() {
+      return byBook;
+    }
+
+    public SalesTable byEmployee() {
+      return byEmployee;
+    }
+
+    public SalesTable byClient() {
+      return byClient;
+    }
+
+    /**
+     * Keyed by {@link #monthKey(YearMonth)}.
+     */
+    public SalesTable byMonth() {
+      return byMonth;
+    }
+
+    private void add(Order order, int revenueScale) {
+      long revenue = order.getPrice() == null ? 0 : Money.toMinor(order.getPrice(), revenueScale);
+      long units = order.getNumberOfBooks();
+      byBook.add(order.getBookId(), revenue, units, 1);
+      byEmployee.add(order.getEmployeeId(), revenue, units, 1);
+      byClient.add(order.getClientId(), revenue, units, 1);
+      LocalDateTime date = order.getOrderDate();
+      if (date != null) {
+        byMonth.add(date.getYear() * 100L + date.getMonthValue(), revenue, units, 1);
+      }
+    }
+
+    private void addAll(Report other) {
+      byBook.addAll(other.byBook);
+      byEmployee.addAll(other.byEmployee);
+      byClient.addAll(other.byClient);
+      byMonth.addAll(other.byMonth);
+    }
+  }
+
+  private final class Task extends RecursiveTask<Report> {
+    private final List<Order> orders;
+    private final int from;
+    private final int to;
+
+    Task(List<Order> orders, int from, int to) {
+      this.orders = orders;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected Report compute() {
+      if (to - from <= LEAF_SIZE) {
+        Report report = new Report(revenueScale);
+        for (int i = from; i < to; i++) {
+          Order order = orders.get(i);
+          if (order != null) {
+            report.add(order, revenueScale);
+          }
+        }
+        return report;
+      }
+      int middle = (from + to) >>> 1;
+      Task right = new Task(orders, middle, to);
+      right.fork();
+      Report report = new Task(orders, from, middle).compute();
+      report.addAll(right.join());
+      return report;
+    }
+  }
+}
@@ -0,0 +1,90 @@
+package com.epam.rd.autocode.assessment.basics.query;
+
+import com.epam.rd.autocode.assessment.basics.repository.LongIntHashMap;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+/**
+ * Revenue, units and order counts per {@code long} group key, held in parallel primitive
+ * arrays. Revenue is kept in minor units of a fixed scale. Tables are filled by
+ * {@link SalesAggregator} and read-only afterwards.
+ */
+public final class SalesTable {
+  private final int revenueScale;
+  private final LongIntHashMap slots = new LongIntHashMap();
+  private long[] keys = new long[16];
+  private long[] revenue = new long[16];
+  private long[] units = new long[16];
+  private long[] orders = new long[16];
+  private int size;
+
+  SalesTable(int revenueScale) {
+    this.revenueScale = revenueScale;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public int getRevenueScale() {
+    return revenueScale;
+  }
+
+  /**
+   * The group keys in ascending order.
+   */
+  public long[] keys() {
+    long[] sorted = Arrays.copyOf(keys, size);
+    Arrays.sort(sorted);
+    return sorted;
+  }
+
+  public boolean contains(long key) {
+    return slots.containsKey(key);
+  }
+
+  public long getRevenueMinorUnits(long key) {
+    int slot = slots.get(key);
+    return slot == LongIntHashMap.NO_VALUE ? 0 : revenue[slot];
+  }
+
+  public BigDecimal getRevenue(long key) {
+    return BigDecimal.valueOf(getRevenueMinorUnits(key), revenueScale);
+  }
+
+  public long getUnits(long key) {
+    int slot = slots.get(key);
+    return slot == LongIntHashMap.NO_VALUE ? 0 : units[slot];
+  }
+
+  public long getOrders(long key) {
+    int slot = slots.get(key);
+    return slot == LongIntHashMap.NO_VALUE ? 0 : orders[slot];
+  }
+
+  void add(long key, long revenueMinorUnits, long unitCount, long orderCount) {
+    int slot = slots.get(key);
+    if (slot == LongIntHashMap.NO_VALUE) {
+      if (size == keys.length) {
+        int capacity = size * 2;
+        keys = Arrays.copyOf(keys, capacity);
+        revenue = Arrays.copyOf(revenue, capacity);
+        units = Arrays.copyOf(units, capacity);
+        orders = Arrays.copyOf(orders, capacity);
+      }
+      slot = size++;
+      keys[slot] = key;
+      slots.put(key, slot);
+    }
+    revenue[slot] = Math.addExact(revenue[slot], revenueMinorUnits);
+    units[slot] += unitCount;
+    orders[slot] += orderCount;
+  }
+
+  void addAll(SalesTable other) {
+    for (int i = 0; i < other.size; i++) {
+      add(other.keys[i], other.revenue[i], other.units[i], other.orders[i]);
+    }
+  }
+}
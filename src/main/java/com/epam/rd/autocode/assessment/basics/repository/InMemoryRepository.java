@@ -0,0 +1,209 @@
+package com.epam.rd.autocode.assessment.basics.repository;
+
+import com.epam.rd.autocode.assessment.basics.entity.Book;
+import com.epam.rd.autocode.assessment.basics.entity.Client;
+import com.epam.rd.autocode.assessment.basics.entity.Employee;
+import com.epam.rd.autocode.assessment.basics.entity.Order;
+import com.epam.rd.autocode.assessment.basics.service.CsvStorage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+
+/**
+ * Entities kept in a dense row array and found by id through a {@link LongIntHashMap}
+ * from id to row. Rows freed by deletes are reused by later inserts.
+ * <p>
+ * A {@code HashMap<Long, T>} spends about 50 bytes per entry with compressed oops: a 32 byte
+ * node, a 16 byte boxed key and a table slot at load factor 0.75. Here an entry costs the
+ * 12 bytes of a map slot over the same load factor, plus a 4 byte row reference, so about
+ * 20 to 36 bytes depending on how full the map table is, and no objects besides the entity.
+ * Not thread-safe.
+ */
+public class InMemoryRepository<T> {
+  private final ToLongFunction<? super T> idOf;
+  private final LongIntHashMap index;
+  private Object[] rows;
+  private int rowCount;
+  private int[] freeRows = new int[0];
+  private int freeCount;
+
+  public InMemoryRepository(ToLongFunction<? super T> idOf) {
+    this(idOf, 16);
+  }
+
+  public InMemoryRepository(ToLongFunction<? super T> idOf, int expectedSize) {
+    this.idOf = Objects.requireNonNull(idOf);
+    this.index = new LongIntHashMap(expectedSize);
+    this.rows = new Object[Math.max(expectedSize, 16)];
+  }
+
+  public static InMemoryRepository<Book> books() {
+    return new InMemoryRepository<>(Book::getId);
+  }
+
+  public static InMemoryRepository<Client> clients() {
+    return new InMemoryRepository<>(Client::getId);
+  }
+
+  public static InMemoryRepository<Employee> employees() {
+    return new InMemoryRepository<>(Employee::getId);
+  }
+
+  public static InMemoryRepository<Order> orders() {
+    return new InMemoryRepository<>(Order::getId);
+  }
+
+  /**
+   * Streams the csv source into the repository. A record with an id seen before replaces
+   * the earlier one.
+   *
+   * @return the number of records read
+   */
+  public int load(CsvStorage storage, InputStream source, Function<String[], T> mapper) throws IOException {
+    int[] count = new int[1];
+    try (Stream<T> values = storage.stream(source, mapper)) {
+      values.forEach(value -> {
+        upsert(value);
+        count[0]++;
+      });
+    }
+    return count[0];
+  }
+
+  public void loadAll(List<? extends T> values) {
+    ensureCapacity(size() + values.size());
+    for (T value : values) {
+      upsert(value);
+    }
+  }
+
+  public int size() {
+    return index.size();
+  }
+
+  public boolean contains(long id) {
+    return index.containsKey(id);
+  }
+
+  public T get(long id) {
+    int row = index.get(id);
+    return row == LongIntHashMap.NO_VALUE ? null : row(row);
+  }
+
+  /**
+   * Inserts the value or replaces the one with the same id.
+   *
+   * @return the replaced value, or {@code null}
+   */
+  public T upsert(T value) {
+    Objects.requireNonNull(value);
+    long id = idOf.applyAsLong(value);
+    int row = index.get(id);
+    if (row != LongIntHashMap.NO_VALUE) {
+      T previous = row(row);
+      rows[row] = value;
+      stored(row, previous, value);
+      return previous;
+    }
+    row = allocateRow();
+    rows[row] = value;
+    index.put(id, row);
+    stored(row, null, value);
+    return null;
+  }
+
+  /**
+   * @return the removed value, or {@code null} when there was none
+   */
+  public T delete(long id) {
+    int row = index.remove(id);
+    if (row == LongIntHashMap.NO_VALUE) {
+      return null;
+    }
+    T previous = row(row);
+    rows[row] = null;
+    if (freeCount == freeRows.length) {
+      freeRows = Arrays.copyOf(freeRows, Math.max(16, freeCount * 2));
+    }
+    freeRows[freeCount++] = row;
+    removed(row, previous);
+    return previous;
+  }
+
+  public void forEach(Consumer<? super T> action) {
+    for (int i = 0; i < rowCount; i++) {
+      T value = row(i);
+      if (value != null) {
+        action.accept(value);
+      }
+    }
+  }
+
+  /**
+   * The values in row order, which is insertion order until rows are reused.
+   */
+  public List<T> values() {
+    List<T> values = new ArrayList<>(size());
+    forEach(values::add);
+    return values;
+  }
+
+  public void ensureCapacity(int expectedSize) {
+    index.ensureCapacity(expectedSize);
+    if (expectedSize > rows.length) {
+      rows = Arrays.copyOf(rows, expectedSize);
+    }
+  }
+
+  /**
+   * The row a value with this id is stored in, or {@link LongIntHashMap#NO_VALUE}.
+   */
+  protected int rowOf(long id) {
+    return index.get(id);
+  }
+
+  /**
+   * The value in the row, or {@code null} for a free row.
+   */
+  @SuppressWarnings("unchecked")
+  protected T row(int row) {
+    return (T) rows[row];
+  }
+
+  /**
+   * Number of rows in use or free; every row below it may be passed to {@link #row}.
+   */
+  protected int rowCount() {
+    return rowCount;
+  }
+
+  /**
+   * Called after a value has been stored in a row, with the value it replaced, if any.
+   */
+  protected void stored(int row, T previous, T value) {
+  }
+
+  /**
+   * Called after the value in a row has been deleted.
+   */
+  protected void removed(int row, T value) {
+  }
+
+  private int allocateRow() {
+    if (freeCount > 0) {
+      return freeRows[--freeCount];
+    }
+    if (rowCount == rows.length) {
+      rows = Arrays.copyOf(rows, rows.length + (rows.length >> 1));
+    }
+    return rowCount++;
+  }
+}
@@ -0,0 +1,200 @@
+package com.epam.rd.autocode.assessment.basics.repository;
+
+import java.util.Arrays;
+
+/**
+ * An open-addressing map from {@code long} keys to non-negative {@code int} values, stored in
+ * two parallel primitive arrays with linear probing. Key 0 marks a free slot, so a mapping for
+ * key 0 is kept in a separate field. Removal shifts the following entries back instead of
+ * leaving tombstones, so lookups never slow down after deletes. Not thread-safe.
+ */
+public final class LongIntHashMap {
+  public static final int NO_VALUE = -1;
+
+  private static final int MIN_CAPACITY = 16;
+
+  private long[] keys;
+  private int[] values;
+  private int mask;
+  private int size;
+  private int resizeAt;
+  private boolean hasZeroKey;
+  private int zeroValue = NO_VALUE;
+
+  public LongIntHashMap() {
+    this(MIN_CAPACITY);
+  }
+
+  /**
+   * @param expectedSize number of entries the map can hold before it grows
+   */
+  public LongIntHashMap(int expectedSize) {
+    allocate(tableSizeFor(expectedSize));
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  public boolean containsKey(long key) {
+    return get(key) != NO_VALUE;
+  }
+
+  /**
+   * Returns the value of the key, or {@link #NO_VALUE} when it has none.
+   */
+  public int get(long key) {
+    if (key == 0) {
+      return hasZeroKey ? zeroValue : NO_VALUE;
+    }
+    for (int slot = slot(key); ; slot = (slot + 1) & mask) {
+      long current = keys[slot];
+      if (current == key) {
+        return values[slot];
+      }
+      if (current == 0) {
+        return NO_VALUE;
+      }
+    }
+  }
+
+  /**
+   * Maps the key to a non-negative value.
+   *
+   * @return the previous value, or {@link #NO_VALUE}
+   */
+  public int put(long key, int value) {
+    if (value < 0) {
+      throw new IllegalArgumentException("Negative value: " + value);
+    }
+    if (key == 0) {
+      int previous = hasZeroKey ? zeroValue : NO_VALUE;
+      if (!hasZeroKey) {
+        hasZeroKey = true;
+        size++;
+      }
+      zeroValue = value;
+      return previous;
+    }
+    int slot = slot(key);
+    while (keys[slot] != 0) {
+      if (keys[slot] == key) {
+        int previous = values[slot];
+        values[slot] = value;
+        return previous;
+      }
+      slot = (slot + 1) & mask;
+    }
+    keys[slot] = key;
+    values[slot] = value;
+    if (++size > resizeAt) {
+      allocate(keys.length * 2);
+    }
+    return NO_VALUE;
+  }
+
+  /**
+   * @return the removed value, or {@link #NO_VALUE}
+   */
+  public int remove(long key) {
+    if (key == 0) {
+      if (!hasZeroKey) {
+        return NO_VALUE;
+      }
+      hasZeroKey = false;
+      size--;
+      int previous = zeroValue;
+      zeroValue = NO_VALUE;
+      return previous;
+    }
+    for (int slot = slot(key); ; slot = (slot + 1) & mask) {
+      long current = keys[slot];
+      if (current == 0) {
+        return NO_VALUE;
+      }
+      if (current == key) {
+        int previous = values[slot];
+        shiftBack(slot);
+        size--;
+        return previous;
+      }
+    }
+  }
+
+  public void clear() {
+    Arrays.fill(keys, 0);
+    hasZeroKey = false;
+    zeroValue = NO_VALUE;
+    size = 0;
+  }
+
+  /**
+   * Grows the table so that the given number of entries fits without rehashing.
+   */
+  public void ensureCapacity(int expectedSize) {
+    int tableSize = tableSizeFor(expectedSize);
+    if (tableSize > keys.length) {
+      allocate(tableSize);
+    }
+  }
+
+  private void shiftBack(int free) {
+    // Move later entries of the same probe run into the hole so no probe chain is broken
+    int slot = free;
+    while (true) {
+      slot = (slot + 1) & mask;
+      long key = keys[slot];
+      if (key == 0) {
+        break;
+      }
+      int home = slot(key);
+      boolean movable = free <= slot ? home <= free || home > slot : home <= free && home > slot;
+      if (movable) {
+        keys[free] = key;
+        values[free] = values[slot];
+        free = slot;
+      }
+    }
+    keys[free] = 0;
+  }
+
+  private void allocate(int tableSize) {
+    long[] oldKeys = keys;
+    int[] oldValues = values;
+    keys = new long[tableSize];
+    values = new int[tableSize];
+    mask = tableSize - 1;
+    // Load factor 0.75
+    resizeAt = tableSize - (tableSize >>> 2);
+    if (oldKeys != null) {
+      for (int i = 0; i < oldKeys.length; i++) {
+        long key = oldKeys[i];
+        if (key != 0) {
+          int slot = slot(key);
+          while (keys[slot] != 0) {
+            slot = (slot + 1) & mask;
+          }
+          keys[slot] = key;
+          values[slot] = oldValues[i];
+        }
+      }
+    }
+  }
+
+  private int slot(long key) {
+    long hash = key * 0x9e3779b97f4a7c15L;
+    return (int) (hash ^ (hash >>> 32)) & mask;
+  }
+
+  private static int tableSizeFor(int expectedSize) {
+    long needed = Math.max(MIN_CAPACITY, (long) Math.ceil(expectedSize / 0.75) + 1);
+    if (needed > 1 << 30) {
+      throw new IllegalArgumentException("Too many entries: " + expectedSize);
+    }
+    return Integer.highestOneBit((int) needed - 1) << 1;
+  }
+}
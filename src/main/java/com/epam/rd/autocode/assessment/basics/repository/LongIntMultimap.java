@@ -0,0 +1,115 @@
+package com.epam.rd.autocode.assessment.basics.repository;
+
+import java.util.Arrays;
+
+/**
+ * A map from {@code long} keys to lists of {@code int} values, each list a plain int array
+ * found through a {@link LongIntHashMap}. Values of a key keep the order they were added in.
+ * A key whose last value is removed is dropped, and its list slot is reused by later keys.
+ * Not thread-safe.
+ */
+public final class LongIntMultimap {
+  private static final int[] EMPTY = new int[0];
+
+  private final LongIntHashMap slots;
+  private int[][] lists;
+  private int[] sizes;
+  private int slotCount;
+  private int[] freeSlots = new int[0];
+  private int freeCount;
+
+  public LongIntMultimap() {
+    this(16);
+  }
+
+  /**
+   * @param expectedKeys number of distinct keys the map can hold before it grows
+   */
+  public LongIntMultimap(int expectedKeys) {
+    slots = new LongIntHashMap(expectedKeys);
+    lists = new int[Math.max(expectedKeys, 16)][];
+    sizes = new int[lists.length];
+  }
+
+  public void put(long key, int value) {
+    int slot = slots.get(key);
+    if (slot == LongIntHashMap.NO_VALUE) {
+      slot = newSlot();
+      lists[slot] = new int[4];
+      slots.put(key, slot);
+    }
+    int[] list = lists[slot];
+    if (sizes[slot] == list.length) {
+      list = lists[slot] = Arrays.copyOf(list, list.length * 2);
+    }
+    list[sizes[slot]++] = value;
+  }
+
+  /**
+   * Removes one occurrence of the value from the key's list.
+   *
+   * @return whether the value was found
+   */
+  public boolean remove(long key, int value) {
+    int slot = slots.get(key);
+    if (slot == LongIntHashMap.NO_VALUE) {
+      return false;
+    }
+    int[] list = lists[slot];
+    int size = sizes[slot];
+    for (int i = 0; i < size; i++) {
+      if (list[i] == value) {
+        System.arraycopy(list, i + 1, list, i, size - i - 1);
+        sizes[slot] = size - 1;
+        if (size == 1) {
+          freeSlot(key, slot);
+        }
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * A copy of the key's values; empty when it has none.
+   */
+  public int[] get(long key) {
+    int slot = slots.get(key);
+    if (slot == LongIntHashMap.NO_VALUE || sizes[slot] == 0) {
+      return EMPTY;
+    }
+    return Arrays.copyOf(lists[slot], sizes[slot]);
+  }
+
+  public int count(long key) {
+    int slot = slots.get(key);
+    return slot == LongIntHashMap.NO_VALUE ? 0 : sizes[slot];
+  }
+
+  /**
+   * Number of keys with at least one value.
+   */
+  public int keyCount() {
+    return slots.size();
+  }
+
+  private int newSlot() {
+    if (freeCount > 0) {
+      return freeSlots[--freeCount];
+    }
+    if (slotCount == lists.length) {
+      lists = Arrays.copyOf(lists, slotCount * 2);
+      sizes = Arrays.copyOf(sizes, slotCount * 2);
+    }
+    return slotCount++;
+  }
+
+  private void freeSlot(long key, int slot) {
+    slots.remove(key);
+    lists[slot] = null;
+    if (freeCount == freeSlots.length) {
+      freeSlots = Arrays.copyOf(freeSlots, Math.max(16, freeCount * 2));
+    }
+    freeSlots[freeCount++] = slot;
+  }
+}
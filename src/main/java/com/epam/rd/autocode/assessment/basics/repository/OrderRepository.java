@@ -0,0 +1,72 @@
+package com.epam.rd.autocode.assessment.basics.repository;
+
+import com.epam.rd.autocode.assessment.basics.entity.Order;
+
+/**
+ * An order repository that also indexes orders by client, employee and book.
+ * The indexes map a foreign id to the rows of its orders and are maintained on every
+ * upsert and delete, so a csv load builds them in the same pass that reads the records.
+ * Lookups return order ids in the order the orders were stored.
+ */
+public class OrderRepository extends InMemoryRepository<Order> {
+  private final LongIntMultimap byClient = new LongIntMultimap();
+  private final LongIntMultimap byEmployee = new LongIntMultimap();
+  private final LongIntMultimap byBook = new LongIntMultimap();
+
+  public OrderRepository() {
+    super(Order::getId);
+  }
+
+  public OrderRepository(int expectedSize) {
+    super(Order::getId, expectedSize);
+  }
+
+  public long[] findIdsByClientId(long clientId) {
+    return ids(byClient.get(clientId));
+  }
+
+  public long[] findIdsByEmployeeId(long employeeId) {
+    return ids(byEmployee.get(employeeId));
+  }
+
+  public long[] findIdsByBookId(long bookId) {
+    return ids(byBook.get(bookId));
+  }
+
+  public int countByClientId(long clientId) {
+    return byClient.count(clientId);
+  }
+
+  public int countByEmployeeId(long employeeId) {
+    return byEmployee.count(employeeId);
+  }
+
+  public int countByBookId(long bookId) {
+    return byBook.count(bookId);
+  }
+
+  @Override
+  protected void stored(int row, Order previous, Order value) {
+    if (previous != null) {
+      removed(row, previous);
+    }
+    byClient.put(value.getClientId(), row);
+    byEmployee.put(value.getEmployeeId(), row);
+    byBook.put(value.getBookId(), row);
+  }
+
+  @Override
+  protected void removed(int row, Order value) {
+    byClient.remove(value.getClientId(), row);
+    byEmployee.remove(value.getEmployeeId(), row);
+    byBook.remove(value.getBookId(), row);
+  }
+
+  private long[] ids(int[] rows) {
+    long[] ids = new long[rows.length];
+    for (int i = 0; i < rows.length; i++) {
+      ids[i] = row(rows[i]).getId();
+    }
+    return ids;
+  }
+}
@@ -0,0 +1,307 @@
+package com.epam.rd.autocode.assessment.basics.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Hands records to a single background thread that writes them to a {@link CsvWriter} session
+ * in batches. Producers only pay for a queue insert; when the bounded queue is full they block
+ * (or time out with {@link #offer}), which is the back-pressure on fast producers.
+ * Output is flushed once {@code batchSize} records are pending or the flush interval has passed,
+ * whichever comes first. A failure of the target is reported by the next call on this writer.
+ * Once the background thread has stopped, calls that would wait on it fail instead.
+ */
+public final class AsyncCsvWriter<T> implements CsvWriter<T> {
+  private static final long STOP_CHECK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+  private final CsvWriter<T> target;
+  private final BlockingQueue<Object> queue;
+  private final int batchSize;
+  private final long flushIntervalNanos;
+  private final Thread worker;
+  private final ReadWriteLock state = new ReentrantReadWriteLock();
+
+  private volatile Throwable failure;
+  private volatile boolean closed;
+  private volatile boolean stopped;
+
+  public AsyncCsvWriter(CsvWriter<T> target, int capacity, int batchSize, Duration flushInterval) {
+    if (capacity < 1 || batchSize < 1) {
+      throw new IllegalArgumentException("Capacity and batch size must be positive");
+    }
+    if (flushInterval.isNegative() || flushInterval.isZero()) {
+      throw new IllegalArgumentException("Flush interval must be positive");
+    }
+    this.target = target;
+    this.queue = new ArrayBlockingQueue<>(capacity);
+    this.batchSize = batchSize;
+    this.flushIntervalNanos = flushInterval.toNanos();
+    this.worker = new Thread(this::drain, "async-csv-writer");
+    worker.setDaemon(true);
+    worker.start();
+  }
+
+  /**
+   * Enqueues the record, blocking while the queue is full.
+   */
+  @Override
+  public void write(T value) throws IOException {
+    Lock lock = state.readLock();
+    lock.lock();
+    try {
+      ensureOpen();
+      enqueue(value, Long.MAX_VALUE);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Enqueues the record, waiting at most the given time for queue space.
+   *
+   * @return {@code false} if the queue stayed full
+   */
+  public boolean offer(T value, long timeout, TimeUnit unit) throws IOException {
+    Lock lock = state.readLock();
+    lock.lock();
+    try {
+      ensureOpen();
+      return enqueue(value, unit.toNanos(timeout));
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public void writeAll(Iterator<? extends T> values) throws IOException {
+    while (values.hasNext()) {
+      write(values.next());
+    }
+  }
+
+  /**
+   * Waits until every record enqueued before this call is written and flushed.
+   */
+  @Override
+  public void flush() throws IOException {
+    CompletableFuture<Void> marker;
+    Lock lock = state.readLock();
+    lock.lock();
+    try {
+      ensureOpen();
+      marker = enqueueMarker(false);
+    } finally {
+      lock.unlock();
+    }
+    await(marker);
+  }
+
+  @Override
+  public void close() throws IOException {
+    // Taking the write lock waits for producers that are still enqueueing,
+    // so nothing can be queued behind the last marker
+    Lock lock = state.writeLock();
+    lock.lock();
+    try {
+      if (closed) {
+        return;
+      }
+      closed = true;
+    } finally {
+      lock.unlock();
+    }
+    try {
+      // The worker stops once it has written everything up to the last marker
+      await(enqueueMarker(true));
+      worker.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while closing", e);
+    } finally {
+      target.close();
+    }
+  }
+
+  private void ensureOpen() throws IOException {
+    if (closed) {
+      throw new IOException("Writer is closed");
+    }
+    Throwable cause = failure;
+    if (cause != null) {
+      throw new IOException("Background write failed", cause);
+    }
+  }
+
+  private CompletableFuture<Void> enqueueMarker(boolean last) throws IOException {
+    Marker marker = new Marker(last);
+    enqueue(marker, Long.MAX_VALUE);
+    return marker.done;
+  }
+
+  /**
+   * Puts the item on the queue, giving up with an exception once the worker has stopped,
+   * since nothing would take it off the queue any more.
+   */
+  private boolean enqueue(Object item, long timeoutNanos) throws IOException {
+    long deadline = System.nanoTime() + timeoutNanos;
+    try {
+      while (!queue.offer(item, Math.min(STOP_CHECK_NANOS, Math.max(0, deadline - System.nanoTime())),
+              TimeUnit.NANOSECONDS)) {
+        if (stopped) {
+          throw stoppedException();
+        }
+        if (timeoutNanos != Long.MAX_VALUE && deadline - System.nanoTime() <= 0) {
+          return false;
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while waiting for queue space", e);
+    }
+    if (stopped) {
+      // The worker may have emptied the queue for the last time before the item arrived;
+      // a marker it did handle is already complete, one it did not is failed here
+      abandonQueued();
+      if (!(item instanceof Marker)) {
+        throw stoppedException();
+      }
+    }
+    return true;
+  }
+
+  private IOException stoppedException() {
+    Throwable cause = failure;
+    return cause != null ? new IOException("Background write failed", cause) : new IOException("Writer is closed");
+  }
+
+  private void abandonQueued() {
+    Object item;
+    while ((item = queue.poll()) != null) {
+      if (item instanceof Marker) {
+        Throwable cause = failure;
+        ((Marker) item).done.completeExceptionally(cause != null ? cause : new IOException("Writer is closed"));
+      }
+    }
+  }
+
+  private void await(CompletableFuture<Void> marker) throws IOException {
+    try {
+      marker.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while waiting for the writer", e);
+    } catch (ExecutionException e) {
+      throw new IOException("Background write failed", e.getCause());
+    }
+  }
+
+  private void drain() {
+    try {
+      writeQueued();
+    } finally {
+      stopped = true;
+      abandonQueued();
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private void writeQueued() {
+    List<Object> items = new ArrayList<>(batchSize);
+    List<T> batch = new ArrayList<>(batchSize);
+    int unflushed = 0;
+    long deadline = 0;
+    while (true) {
+      try {
+        Object first = unflushed == 0
+                ? queue.take()
+                : queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        if (first == null) {
+          flushTarget();
+          unflushed = 0;
+          continue;
+        }
+        items.add(first);
+        queue.drainTo(items, batchSize - 1);
+
+        boolean last = false;
+        for (Object item : items) {
+          if (!(item instanceof Marker)) {
+            batch.add((T) item);
+            continue;
+          }
+          // Every record queued before the marker is in the batch, so write and flush it now
+          writeBatch(batch);
+          flushTarget();
+          unflushed = 0;
+          Marker marker = (Marker) item;
+          if (failure != null) {
+            marker.done.completeExceptionally(failure);
+          } else {
+            marker.done.complete(null);
+          }
+          last |= marker.last;
+        }
+        items.clear();
+        if (unflushed == 0 && !batch.isEmpty()) {
+          deadline = System.nanoTime() + flushIntervalNanos;
+        }
+        unflushed += writeBatch(batch);
+        if (last) {
+          flushTarget();
+          return;
+        }
+        if (unflushed >= batchSize) {
+          flushTarget();
+          unflushed = 0;
+        }
+      } catch (InterruptedException e) {
+        failure = e;
+        return;
+      }
+    }
+  }
+
+  private int writeBatch(List<T> batch) {
+    int size = batch.size();
+    if (size > 0 && failure == null) {
+      try {
+        target.writeAll(batch);
+      } catch (IOException | RuntimeException e) {
+        failure = e;
+      }
+    }
+    // After a failure records are dropped so that blocked producers can proceed and see the error
+    batch.clear();
+    return failure == null ? size : 0;
+  }
+
+  private void flushTarget() {
+    if (failure == null) {
+      try {
+        target.flush();
+      } catch (IOException | RuntimeException e) {
+        failure = e;
+      }
+    }
+  }
+
+  private static final class Marker {
+    final boolean last;
+    final CompletableFuture<Void> done = new CompletableFuture<>();
+
+    Marker(boolean last) {
+      this.last = last;
+    }
+  }
+}
@@ -0,0 +1,80 @@
+package com.epam.rd.autocode.assessment.basics.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Splits an undecoded input stream into lines the same way {@link java.io.BufferedReader#readLine()}
+ * does and hands each one to the consumer as a {@link CsvByteRow}.
+ */
+final class ByteRecordReader {
+  private static final int BUFFER_SIZE = 1 << 16;
+
+  private final InputStream source;
+  private final boolean headerLine;
+  private final CsvByteRow row;
+
+  ByteRecordReader(InputStream source, boolean headerLine, CsvByteRow row) {
+    this.source = source;
+    this.headerLine = headerLine;
+    this.row = row;
+  }
+
+  void forEach(Consumer<? super CsvByteRow> consumer) throws IOException {
+    byte[] bytes = new byte[BUFFER_SIZE];
+    ByteBuffer buffer = ByteBuffer.wrap(bytes);
+    int filled = 0;
+    int lineStart = 0;
+    boolean skip = headerLine;
+    boolean eof = false;
+    while (true) {
+      int scanned = lineStart;
+      while (scanned < filled) {
+        byte b = bytes[scanned];
+        if (b != '\n' && b != '\r') {
+          scanned++;
+          continue;
+        }
+        if (b == '\r' && scanned + 1 == filled && !eof) {
+          // The matching '\n' may still be unread
+          break;
+        }
+        if (skip) {
+          skip = false;
+        } else {
+          row.reset(buffer, lineStart, scanned);
+          consumer.accept(row);
+        }
+        scanned += b == '\r' && scanned + 1 < filled && bytes[scanned + 1] == '\n' ? 2 : 1;
+        lineStart = scanned;
+      }
+      if (eof) {
+        if (lineStart < filled && !skip) {
+          row.reset(buffer, lineStart, filled);
+          consumer.accept(row);
+        }
+        return;
+      }
+
+      // Keep the incomplete line and read more after it
+      int pending = filled - lineStart;
+      if (lineStart > 0) {
+        System.arraycopy(bytes, lineStart, bytes, 0, pending);
+      } else if (pending == bytes.length) {
+        bytes = Arrays.copyOf(bytes, bytes.length * 2);
+        buffer = ByteBuffer.wrap(bytes);
+      }
+      filled = pending;
+      lineStart = 0;
+      int read = source.read(bytes, filled, bytes.length - filled);
+      if (read < 0) {
+        eof = true;
+      } else {
+        filled += read;
+      }
+    }
+  }
+}
@@ -0,0 +1,280 @@
+package com.epam.rd.autocode.assessment.basics.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Reads a csv file by memory-mapping it and parsing byte ranges on separate threads.
+ * Ranges are aligned to record boundaries in three parallel passes: quote characters are
+ * counted per tentative range, the prefix parity of those counts gives the quote state at
+ * every range start, and each range start is then moved forward to the first line break
+ * that is not inside quotes.
+ */
+final class ChunkedFileReader {
+  private static final long MIN_CHUNK_SIZE = 1 << 16;
+  private static final long MAX_CHUNK_SIZE = 1 << 30;
+
+  private final Charset charset;
+  private final boolean quoted;
+  private final byte quote;
+  private final boolean headerLine;
+  private final Supplier<CsvTokenizer> tokenizers;
+
+  ChunkedFileReader(Charset charset, String quoteCharacter, boolean headerLine,
+                    Supplier<CsvTokenizer> tokenizers) {
+    if ("\n".getBytes(charset).length != 1) {
+      throw new IllegalArgumentException("Memory-mapped read requires an ASCII compatible encoding: " + charset);
+    }
+    byte[] quoteBytes = quoteCharacter.isEmpty() ? new byte[0] : quoteCharacter.substring(0, 1).getBytes(charset);
+    if (quoteBytes.length > 1) {
+      throw new IllegalArgumentException("Quote character must be a single byte in " + charset);
+    }
+    this.charset = charset;
+    this.quoted = quoteBytes.length == 1;
+    this.quote = quoted ? quoteBytes[0] : 0;
+    this.headerLine = headerLine;
+    this.tokenizers = tokenizers;
+  }
+
+  <T> List<T> read(Path file, Function<String[], T> mapper, int parallelism) throws IOException {
+    if (parallelism < 1) {
+      throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+    }
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      long size = channel.size();
+      if (size == 0) {
+        return new ArrayList<>();
+      }
+      ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+      try {
+        long[] bounds = alignedBounds(channel, size, chunkCount(size, parallelism), executor);
+        List<Callable<List<T>>> tasks = new ArrayList<>();
+        for (int i = 0; i + 1 < bounds.length; i++) {
+          long start = bounds[i];
+          long end = bounds[i + 1];
+          boolean skipHeader = headerLine && i == 0;
+          tasks.add(() -> {
+            List<T> part = new ArrayList<>();
+            parseRange(channel, start, end, skipHeader, mapper, part::add);
+            return part;
+          });
+        }
+        List<T> result = new ArrayList<>();
+        for (List<T> part : invokeAll(executor, tasks)) {
+          result.addAll(part);
+        }
+        return result;
+      } finally {
+        executor.shutdownNow();
+      }
+    }
+  }
+
+  /**
+   * Like {@link #read}, but hands every record to the action on the thread that parsed it,
+   * in no particular order, without collecting the records.
+   */
+  <T> void forEach(Path file, Function<String[], T> mapper, Consumer<? super T> action,
+                   int parallelism) throws IOException {
+    if (parallelism < 1) {
+      throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+    }
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      long size = channel.size();
+      if (size == 0) {
+        return;
+      }
+      ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+      try {
+        long[] bounds = alignedBounds(channel, size, chunkCount(size, parallelism), executor);
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i + 1 < bounds.length; i++) {
+          long start = bounds[i];
+          long end = bounds[i + 1];
+          boolean skipHeader = headerLine && i == 0;
+          tasks.add(() -> {
+            parseRange(channel, start, end, skipHeader, mapper, action);
+            return null;
+          });
+        }
+        invokeAll(executor, tasks);
+      } finally {
+        executor.shutdownNow();
+      }
+    }
+  }
+
+  private static int chunkCount(long size, int parallelism) {
+    long byMinSize = (size + MIN_CHUNK_SIZE - 1) / MIN_CHUNK_SIZE;
+    long byMaxSize = (size + MAX_CHUNK_SIZE - 1) / MAX_CHUNK_SIZE;
+    return (int) Math.max(byMaxSize, Math.min(parallelism, byMinSize));
+  }
+
+  private long[] alignedBounds(FileChannel channel, long size, int chunks,
+                               ExecutorService executor) throws IOException {
+    long[] tentative = new long[chunks + 1];
+    for (int i = 0; i <= chunks; i++) {
+      tentative[i] = size / chunks * i + Math.min(i, size % chunks);
+    }
+
+    // Pass 1: count quotes in every tentative range
+    List<Callable<Long>> counts = new ArrayList<>();
+    for (int i = 0; i < chunks; i++) {
+      long start = tentative[i];
+      long end = tentative[i + 1];
+      counts.add(() -> countQuotes(channel, start, end));
+    }
+    List<Long> quoteCounts = invokeAll(executor, counts);
+
+    // Pass 2: move every range start to the next record boundary
+    List<Callable<Long>> starts = new ArrayList<>();
+    long quotesBefore = 0;
+    for (int i = 1; i < chunks; i++) {
+      quotesBefore += quoteCounts.get(i - 1);
+      long from = tentative[i];
+      boolean insideQuotes = (quotesBefore & 1) == 1;
+      starts.add(() -> nextRecordStart(channel, size, from, insideQuotes));
+    }
+    List<Long> alignedStarts = invokeAll(executor, starts);
+
+    long[] bounds = new long[chunks + 1];
+    bounds[chunks] = size;
+    for (int i = 1; i < chunks; i++) {
+      bounds[i] = Math.max(bounds[i - 1], alignedStarts.get(i - 1));
+    }
+    return bounds;
+  }
+
+  private long countQuotes(FileChannel channel, long start, long end) throws IOException {
+    if (!quoted) {
+      return 0;
+    }
+    MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+    long count = 0;
+    for (int i = 0, limit = buffer.limit(); i < limit; i++) {
+      if (buffer.get(i) == quote) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  private long nextRecordStart(FileChannel channel, long size, long from, boolean insideQuotes) throws IOException {
+    // Map one byte before the range to see whether it already starts a record
+    long windowStart = from - 1;
+    long windowSize = Math.min(size - windowStart, Integer.MAX_VALUE);
+    MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, windowSize);
+    int limit = buffer.limit();
+    byte previous = buffer.get(0);
+    if (!insideQuotes && (previous == '\n' || (previous == '\r' && buffer.get(1) != '\n'))) {
+      return from;
+    }
+    boolean inside = insideQuotes;
+    for (int i = 1; i < limit; i++) {
+      byte b = buffer.get(i);
+      if (quoted && b == quote) {
+        inside = !inside;
+      } else if (!inside && b == '\n') {
+        return windowStart + i + 1;
+      } else if (!inside && b == '\r') {
+        boolean crlf = i + 1 < limit && buffer.get(i + 1) == '\n';
+        return windowStart + i + (crlf ? 2 : 1);
+      }
+    }
+    if (windowStart + limit < size) {
+      throw new IOException("Record starting near offset " + from + " exceeds " + Integer.MAX_VALUE + " bytes");
+    }
+    return size;
+  }
+
+  private <T> void parseRange(FileChannel channel, long start, long end, boolean skipHeader,
+                              Function<String[], T> mapper, Consumer<? super T> sink) throws IOException {
+    if (end <= start) {
+      return;
+    }
+    if (end - start > Integer.MAX_VALUE) {
+      throw new IOException("Record range at offset " + start + " exceeds " + Integer.MAX_VALUE + " bytes");
+    }
+    MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+    CsvTokenizer tokenizer = tokenizers.get();
+    byte[] line = new byte[256];
+    boolean skip = skipHeader;
+    boolean inside = false;
+    int recordStart = 0;
+    int limit = buffer.limit();
+    for (int i = 0; i < limit; i++) {
+      byte b = buffer.get(i);
+      if (quoted && b == quote) {
+        inside = !inside;
+      } else if (!inside && (b == '\n' || b == '\r')) {
+        if (skip) {
+          skip = false;
+        } else {
+          line = decodeInto(buffer, recordStart, i, line, tokenizer, sink, mapper);
+        }
+        if (b == '\r' && i + 1 < limit && buffer.get(i + 1) == '\n') {
+          i++;
+        }
+        recordStart = i + 1;
+      }
+    }
+    if (recordStart < limit && !skip) {
+      decodeInto(buffer, recordStart, limit, line, tokenizer, sink, mapper);
+    }
+  }
+
+  private <T> byte[] decodeInto(MappedByteBuffer buffer, int from, int to, byte[] line,
+                                CsvTokenizer tokenizer, Consumer<? super T> sink, Function<String[], T> mapper) {
+    int length = to - from;
+    if (line.length < length) {
+      line = new byte[Math.max(length, line.length * 2)];
+    }
+    buffer.get(from, line, 0, length);
+    tokenizer.tokenize(new String(line, 0, length, charset));
+    sink.accept(mapper.apply(tokenizer.toArray()));
+    return line;
+  }
+
+  private static <R> List<R> invokeAll(ExecutorService executor, List<Callable<R>> tasks) throws IOException {
+    List<R> results = new ArrayList<>(tasks.size());
+    try {
+      for (Future<R> future : executor.invokeAll(tasks)) {
+        results.add(future.get());
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while reading", e);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof IOException) {
+        throw (IOException) cause;
+      }
+      if (cause instanceof UncheckedIOException) {
+        throw ((UncheckedIOException) cause).getCause();
+      }
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new IOException(cause);
+    }
+    return results;
+  }
+}
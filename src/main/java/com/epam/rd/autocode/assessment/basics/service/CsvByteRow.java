@@ -0,0 +1,273 @@
+package com.epam.rd.autocode.assessment.basics.service;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+
+/**
+ * A csv record viewed directly over the undecoded bytes of its line. Numeric accessors
+ * parse the digits in place, and only {@link #getString(int)} decodes characters.
+ * The row is reused for every record, so it is only valid inside the consumer callback.
+ */
+public final class CsvByteRow {
+  // Up to 18 decimal digits always fit into a long
+  private static final int MAX_SAFE_DIGITS = 18;
+
+  private final Charset charset;
+  private final byte delimiter;
+  private final boolean quoted;
+  private final byte quote;
+  private final CsvTokenizer quotedFields;
+
+  private ByteBuffer buffer;
+  private byte[] scratch = new byte[64];
+  private int count;
+  private int[] starts = new int[16];
+  private int[] ends = new int[16];
+  private boolean[] hasQuotes = new boolean[16];
+
+  CsvByteRow(Charset charset, String quoteCharacter, String valuesDelimiter) {
+    this.charset = charset;
+    this.delimiter = singleByte(valuesDelimiter.substring(0, 1), charset);
+    this.quoted = !quoteCharacter.isEmpty();
+    this.quote = quoted ? singleByte(quoteCharacter.substring(0, 1), charset) : 0;
+    this.quotedFields = new CsvTokenizer(quoteCharacter, valuesDelimiter);
+  }
+
+  private static byte singleByte(String value, Charset charset) {
+    byte[] bytes = value.getBytes(charset);
+    if (bytes.length != 1 || bytes[0] < 0) {
+      throw new IllegalArgumentException("'" + value + "' must be a single ASCII byte in " + charset);
+    }
+    return bytes[0];
+  }
+
+  void reset(ByteBuffer buffer, int from, int to) {
+    this.buffer = buffer;
+    count = 0;
+    boolean insideQuotes = false;
+    boolean fieldHasQuotes = false;
+    int fieldStart = from;
+    for (int i = from; i < to; i++) {
+      byte b = buffer.get(i);
+      if (quoted && b == quote) {
+        fieldHasQuotes = true;
+        if (insideQuotes && i + 1 < to && buffer.get(i + 1) == quote) {
+          i++;
+        } else {
+          insideQuotes = !insideQuotes;
+        }
+      } else if (b == delimiter && !insideQuotes) {
+        addField(fieldStart, i, fieldHasQuotes);
+        fieldStart = i + 1;
+        fieldHasQuotes = false;
+      }
+    }
+    addField(fieldStart, to, fieldHasQuotes);
+  }
+
+  public int size() {
+    return count;
+  }
+
+  public boolean isEmpty(int index) {
+    checkIndex(index);
+    if (hasQuotes[index]) {
+      return isEmptyText(getString(index));
+    }
+    int from = trimStart(index);
+    return trimEnd(index, from) == from;
+  }
+
+  public String getString(int index) {
+    checkIndex(index);
+    if (hasQuotes[index]) {
+      // Rare path: let the char tokenizer apply the quoting rules to this field alone
+      quotedFields.tokenize(decode(starts[index], ends[index]));
+      return quotedFields.field(0);
+    }
+    int from = trimStart(index);
+    int to = trimEnd(index, from);
+    return from == to ? "" : decode(from, to);
+  }
+
+  public long getLong(int index) {
+    checkIndex(index);
+    if (hasQuotes[index]) {
+      String value = getString(index).trim();
+      return isEmptyText(value) ? 0 : Long.parseLong(value);
+    }
+    int from = trimStart(index);
+    int to = trimEnd(index, from);
+    return from == to ? 0 : parseLong(from, to);
+  }
+
+  public int getInt(int index) {
+    long value = getLong(index);
+    if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+      throw new NumberFormatException("Value out of int range: " + value);
+    }
+    return (int) value;
+  }
+
+  public BigDecimal getDecimal(int index) {
+    checkIndex(index);
+    if (hasQuotes[index]) {
+      String value = getString(index).trim();
+      return isEmptyText(value) ? null : new BigDecimal(value);
+    }
+    int from = trimStart(index);
+    int to = trimEnd(index, from);
+    return from == to ? null : parseDecimal(from, to);
+  }
+
+  public LocalDate getDate(int index) {
+    checkIndex(index);
+    if (hasQuotes[index]) {
+      return CsvValues.parseDate(getString(index));
+    }
+    int from = trimStart(index);
+    int to = trimEnd(index, from);
+    if (from == to) {
+      return null;
+    }
+    try {
+      return IsoDateParser.parseDate(buffer, from, to);
+    } catch (DateTimeParseException e) {
+      throw new IllegalArgumentException("Invalid date format", e);
+    }
+  }
+
+  public LocalDateTime getDateTime(int index) {
+    checkIndex(index);
+    if (hasQuotes[index]) {
+      return CsvValues.parseDateTime(getString(index));
+    }
+    int from = trimStart(index);
+    int to = trimEnd(index, from);
+    if (from == to) {
+      return null;
+    }
+    try {
+      return IsoDateParser.parseDateTime(buffer, from, to);
+    } catch (DateTimeParseException e) {
+      throw new IllegalArgumentException("Invalid DateTime format", e);
+    }
+  }
+
+  public <E extends Enum<E>> E getEnum(Class<E> enumType, int index) {
+    checkIndex(index);
+    EnumDecoder<E> decoder = EnumDecoder.of(enumType);
+    return hasQuotes[index] ? decoder.decode(getString(index)) : decoder.decode(buffer, starts[index], ends[index], charset);
+  }
+
+  private long parseLong(int from, int to) {
+    boolean negative = false;
+    int i = from;
+    byte first = buffer.get(i);
+    if (first == '-' || first == '+') {
+      negative = first == '-';
+      i++;
+    }
+    if (i == to || to - i > MAX_SAFE_DIGITS) {
+      return Long.parseLong(decode(from, to));
+    }
+    long value = 0;
+    for (; i < to; i++) {
+      int digit = buffer.get(i) - '0';
+      if (digit < 0 || digit > 9) {
+        throw new NumberFormatException("For input string: \"" + decode(from, to) + "\"");
+      }
+      value = value * 10 + digit;
+    }
+    return negative ? -value : value;
+  }
+
+  private BigDecimal parseDecimal(int from, int to) {
+    boolean negative = false;
+    int i = from;
+    byte first = buffer.get(i);
+    if (first == '-' || first == '+') {
+      negative = first == '-';
+      i++;
+    }
+    long unscaled = 0;
+    int digits = 0;
+    int scale = 0;
+    boolean fraction = false;
+    for (; i < to; i++) {
+      byte b = buffer.get(i);
+      if (b == '.' && !fraction) {
+        fraction = true;
+      } else if (b >= '0' && b <= '9' && digits < MAX_SAFE_DIGITS) {
+        unscaled = unscaled * 10 + (b - '0');
+        digits++;
+        if (fraction) {
+          scale++;
+        }
+      } else {
+        // Exponents, long values and malformed input take the general path
+        return new BigDecimal(decode(from, to));
+      }
+    }
+    if (digits == 0) {
+      return new BigDecimal(decode(from, to));
+    }
+    return BigDecimal.valueOf(negative ? -unscaled : unscaled, scale);
+  }
+
+  private static boolean isEmptyText(String value) {
+    return value.isEmpty() || value.equals("''");
+  }
+
+  private int trimStart(int index) {
+    int from = starts[index];
+    int to = ends[index];
+    while (from < to && (buffer.get(from) & 0xff) <= ' ') {
+      from++;
+    }
+    return from;
+  }
+
+  private int trimEnd(int index, int from) {
+    int to = ends[index];
+    while (to > from && (buffer.get(to - 1) & 0xff) <= ' ') {
+      to--;
+    }
+    return to;
+  }
+
+  private String decode(int from, int to) {
+    if (buffer.hasArray()) {
+      return new String(buffer.array(), buffer.arrayOffset() + from, to - from, charset);
+    }
+    int length = to - from;
+    if (scratch.length < length) {
+      scratch = new byte[Math.max(length, scratch.length * 2)];
+    }
+    buffer.get(from, scratch, 0, length);
+    return new String(scratch, 0, length, charset);
+  }
+
+  private void addField(int start, int end, boolean fieldHasQuotes) {
+    if (count == starts.length) {
+      starts = Arrays.copyOf(starts, count * 2);
+      ends = Arrays.copyOf(ends, count * 2);
+      hasQuotes = Arrays.copyOf(hasQuotes, count * 2);
+    }
+    starts[count] = start;
+    ends[count] = end;
+    hasQuotes[count] = fieldHasQuotes;
+    count++;
+  }
+
+  private void checkIndex(int index) {
+    if (index < 0 || index >= count) {
+      throw new IndexOutOfBoundsException("Field " + index + " of " + count);
+    }
+  }
+}
@@ -0,0 +1,76 @@
+package com.epam.rd.autocode.assessment.basics.service;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Selects the columns a read should materialize, either by position or by header name.
+ * Fields outside the projection are passed to the mapper as {@code null}.
+ */
+public final class CsvProjection {
+  private final int[] indexes;
+  private final String[] names;
+
+  private CsvProjection(int[] indexes, String[] names) {
+    this.indexes = indexes;
+    this.names = names;
+  }
+
+  public static CsvProjection columns(int... indexes) {
+    for (int index : indexes) {
+      if (index < 0) {
+        throw new IllegalArgumentException("Negative column index: " + index);
+      }
+    }
+    return new CsvProjection(indexes.clone(), null);
+  }
+
+  /**
+   * Names are matched against the header line ignoring case and surrounding spaces.
+   */
+  public static CsvProjection names(String... names) {
+    return new CsvProjection(null, names.clone());
+  }
+
+  boolean byName() {
+    return names != null;
+  }
+
+  /**
+   * Returns a flag per column telling whether the column is projected.
+   */
+  boolean[] resolve(String[] header) {
+    if (names == null) {
+      int width = 0;
+      for (int index : indexes) {
+        width = Math.max(width, index + 1);
+      }
+      boolean[] selected = new boolean[width];
+      for (int index : indexes) {
+        selected[index] = true;
+      }
+      return selected;
+    }
+    if (header == null) {
+      throw new IllegalArgumentException("Projection by name requires a header line");
+    }
+    boolean[] selected = new boolean[header.length];
+    for (String name : names) {
+      boolean found = false;
+      for (int i = 0; i < header.length; i++) {
+        if (header[i] != null && key(header[i]).equals(key(name))) {
+          selected[i] = true;
+          found = true;
+        }
+      }
+      if (!found) {
+        throw new IllegalArgumentException("Unknown column: " + name + " in " + Arrays.toString(header));
+      }
+    }
+    return selected;
+  }
+
+  private static String key(String name) {
+    return name.trim().toLowerCase(Locale.ROOT);
+  }
+}
@@ -0,0 +1,148 @@
+package com.epam.rd.autocode.assessment.basics.service;
+
+import com.epam.rd.autocode.assessment.basics.entity.Money;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * A csv record viewed over its decoded line. Fields are only located when the line is read;
+ * each accessor parses its field on demand, so rows rejected by a filter cost one split.
+ * Like {@link CsvByteRow}, {@link #getString(int)} returns the unquoted field text and the typed
+ * accessors treat empty values the way {@link MapperImpl} does.
+ * The row is reused for every record, so it is only valid inside the callback it is passed to.
+ */
+public final class CsvRow {
+  private final CsvTokenizer tokenizer;
+
+  CsvRow(CsvTokenizer tokenizer) {
+    this.tokenizer = tokenizer;
+  }
+
+  public int size() {
+    return tokenizer.size();
+  }
+
+  public String line() {
+    return tokenizer.line();
+  }
+
+  public boolean isEmpty(int index) {
+    if (tokenizer.hasQuotes(index)) {
+      String value = tokenizer.field(index);
+      return value.isEmpty() || value.equals("''");
+    }
+    int from = trimStart(index);
+    return trimEnd(index, from) == from;
+  }
+
+  public String getString(int index) {
+    return tokenizer.field(index);
+  }
+
+  public long getLong(int index) {
+    if (tokenizer.hasQuotes(index)) {
+      return CsvValues.parseLong(tokenizer.field(index));
+    }
+    int from = trimStart(index);
+    int to = trimEnd(index, from);
+    return from == to ? 0 : parseLong(from, to);
+  }
+
+  public int getInt(int index) {
+    long value = getLong(index);
+    if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+      throw new NumberFormatException("Value out of int range: " + value);
+    }
+    return (int) value;
+  }
+
+  public BigDecimal getDecimal(int index) {
+    return CsvValues.parseBigDecimal(tokenizer.field(index));
+  }
+
+  /**
+   * The amount in minor units of the given scale, zero for an empty field.
+   *
+   * @throws ArithmeticException if the value needs rounding to that scale
+   */
+  public long getMinorUnits(int index, int scale) {
+    if (tokenizer.hasQuotes(index)) {
+      String value = tokenizer.field(index).trim();
+      return value.isEmpty() || value.equals("''") ? 0 : Money.parseMinor(value, 0, value.length(), scale);
+    }
+    int from = trimStart(index);
+    int to = trimEnd(index, from);
+    return from == to ? 0 : Money.parseMinor(tokenizer.line(), from, to, scale);
+  }
+
+  public LocalDate getDate(int index) {
+    if (tokenizer.hasQuotes(index)) {
+      return CsvValues.parseDate(tokenizer.field(index));
+    }
+    return CsvValues.parseDate(tokenizer.line(), tokenizer.start(index), tokenizer.end(index));
+  }
+
+  public LocalDateTime getDateTime(int index) {
+    if (tokenizer.hasQuotes(index)) {
+      return CsvValues.parseDateTime(tokenizer.field(index));
+    }
+    return CsvValues.parseDateTime(tokenizer.line(), tokenizer.start(index), tokenizer.end(index));
+  }
+
+  public <E extends Enum<E>> E getEnum(Class<E> enumType, int index) {
+    EnumDecoder<E> decoder = EnumDecoder.of(enumType);
+    if (tokenizer.hasQuotes(index)) {
+      return decoder.decode(tokenizer.field(index));
+    }
+    return decoder.decode(tokenizer.line(), tokenizer.start(index), tokenizer.end(index));
+  }
+
+  public String[] toArray() {
+    return tokenizer.toArray();
+  }
+
+  private long parseLong(int from, int to) {
+    String line = tokenizer.line();
+    boolean negative = false;
+    int i = from;
+    char first = line.charAt(i);
+    if (first == '-' || first == '+') {
+      negative = first == '-';
+      i++;
+    }
+    // Up to 18 decimal digits always fit into a long
+    if (i == to || to - i > 18) {
+      return Long.parseLong(line.substring(from, to));
+    }
+    long value = 0;
+    for (; i < to; i++) {
+      int digit = line.charAt(i) - '0';
+      if (digit < 0 || digit > 9) {
+        throw new NumberFormatException("For input string: \"" + line.substring(from, to) + "\"");
+      }
+      value = value * 10 + digit;
+    }
+    return negative ? -value : value;
+  }
+
+  private int trimStart(int index) {
+    String line = tokenizer.line();
+    int from = tokenizer.start(index);
+    int to = tokenizer.end(index);
+    while (from < to && line.charAt(from) <= ' ') {
+      from++;
+    }
+    return from;
+  }
+
+  private int trimEnd(int index, int from) {
+    String line = tokenizer.line();
+    int to = tokenizer.end(index);
+    while (to > from && line.charAt(to - 1) <= ' ') {
+      to--;
+    }
+    return to;
+  }
+}
@@ -3,11 +3,84 @@ package com.epam.rd.autocode.assessment.basics.service;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 public interface CsvStorage {
     <T> List<T> read(InputStream source, Function<String[], T> mapper) throws IOException;
 
+    /**
+     * Reads the source with a codec bound to its header line, so the columns may come in any order.
+     * Without a header line the codec's own column order is assumed.
+     */
+    <T> List<T> read(InputStream source, EntityCodec<T> codec) throws IOException;
+
+    /**
+     * Reads only the projected columns. The mapper gets one slot per field of the line, with
+     * {@code null} for every field outside the projection; those are never turned into strings.
+     */
+    <T> List<T> read(InputStream source, Function<String[], T> mapper, CsvProjection projection) throws IOException;
+
+    /**
+     * Passes every record to the consumer as a lazily parsed {@link CsvRow}.
+     */
+    void readRows(InputStream source, Consumer<? super CsvRow> consumer) throws IOException;
+
+    /**
+     * Maps only the records accepted by the filter; rejected records are never split into values.
+     */
+    <T> List<T> read(InputStream source, Predicate<? super CsvRow> filter, Function<String[], T> mapper)
+            throws IOException;
+
+    /**
+     * Lazily parses the source one line at a time. The underlying reader is closed
+     * when the stream is exhausted or closed, whichever happens first.
+     */
+    <T> Stream<T> stream(InputStream source, Function<String[], T> mapper) throws IOException;
+
+    /**
+     * Memory-maps the file and parses record-aligned byte ranges on up to {@code parallelism}
+     * threads, returning the records in file order. The mapper is called concurrently.
+     * Unlike the stream based read, a line break inside a quoted value does not end the record.
+     */
+    <T> List<T> read(Path source, Function<String[], T> mapper, int parallelism) throws IOException;
+
+    /**
+     * Parses the file like {@link #read(Path, Function, int)} but passes each record to the action
+     * as soon as it is mapped, concurrently and in no particular order, without collecting them.
+     */
+    <T> void forEach(Path source, Function<String[], T> mapper, Consumer<? super T> action, int parallelism)
+            throws IOException;
+
+    /**
+     * Passes every record to the consumer as a row over the raw bytes, skipping char decoding
+     * for columns read through the numeric accessors. Requires an ASCII compatible encoding.
+     */
+    void readBytes(InputStream source, Consumer<? super CsvByteRow> consumer) throws IOException;
+
+    /**
+     * Creates a reader that follows the file as it grows, passing each new record to the listener.
+     * Nothing is read until the reader is polled or started.
+     */
+    <T> CsvTailReader<T> follow(Path source, Function<String[], T> mapper, Consumer<? super T> listener);
+
     <T> void write(OutputStream dest, List<T> values, Function<T, String[]> mapper) throws IOException;
+
+    /**
+     * Writes the same bytes as {@link #write(OutputStream, List, Function)}, formatting contiguous
+     * slices of the values on up to {@code parallelism} threads while the calling thread writes the
+     * slices in order. The mapper is called concurrently.
+     */
+    <T> void write(OutputStream dest, List<T> values, Function<T, String[]> mapper, int parallelism)
+            throws IOException;
+
+    /**
+     * Opens a write session on the destination. Unlike {@link #write}, the destination is
+     * not closed when the session ends, so batches can be appended to the same stream.
+     */
+    <T> CsvWriter<T> openWriter(OutputStream dest, Function<T, String[]> mapper) throws IOException;
 }
@@ -1,17 +1,36 @@
 package com.epam.rd.autocode.assessment.basics.service;
 
 import java.io.*;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class CsvStorageImpl implements CsvStorage {
+  private static final int WRITE_SLICE_SIZE = 4096;
 
   String encoding;
   String quoteCharacter;
   String valuesDelimiter;
   boolean headerLine;
+  StringDictionary[] dictionaries = new StringDictionary[0];
 
   public CsvStorageImpl() {
     encoding = "UTF-8";
@@ -25,11 +44,39 @@ public class CsvStorageImpl implements CsvStorage {
     quoteCharacter = props.getOrDefault("quoteCharacter", "");
     valuesDelimiter = props.getOrDefault("valuesDelimiter", ",");
     headerLine = Boolean.parseBoolean(props.getOrDefault("headerLine", "true"));
+    String internColumns = props.getOrDefault("internColumns", "");
+    if (!internColumns.isBlank()) {
+      dictionaries = newDictionaries(internColumns,
+              Integer.parseInt(props.getOrDefault("internCapacity", "4096").trim()));
+    }
+  }
+
+  private static StringDictionary[] newDictionaries(String internColumns, int capacity) {
+    StringDictionary[] result = new StringDictionary[0];
+    for (String column : internColumns.split(",")) {
+      int index = Integer.parseInt(column.trim());
+      if (index < 0) {
+        throw new IllegalArgumentException("Negative column index: " + index);
+      }
+      if (index >= result.length) {
+        result = Arrays.copyOf(result, index + 1);
+      }
+      result[index] = new StringDictionary(capacity);
+    }
+    return result;
+  }
+
+  /**
+   * The intern table of a column listed in the {@code internColumns} property, {@code null} otherwise.
+   */
+  public StringDictionary getDictionary(int column) {
+    return column >= 0 && column < dictionaries.length ? dictionaries[column] : null;
   }
 
   @Override
   public <T> List<T> read(InputStream source, Function<String[], T> mapper) throws IOException {
     List<T> list = new ArrayList<>();
+    CsvTokenizer tokenizer = newTokenizer();
 
     try (BufferedReader reader = new BufferedReader(new InputStreamReader(source, encoding))) {
       String line;
@@ -38,8 +85,8 @@ public class CsvStorageImpl implements CsvStorage {
       }
       while ((line = reader.readLine()) != null) {
         // Handle quoted values and split by delimiter
-        String[] values = parseCsvLine(line);
-        T item = mapper.apply(values);
+        tokenizer.tokenize(line);
+        T item = mapper.apply(tokenizer.toArray());
         list.add(item);
       }
     }
@@ -47,71 +94,233 @@ public class CsvStorageImpl implements CsvStorage {
     return list;
   }
 
+  @Override
+  public <T> List<T> read(InputStream source, EntityCodec<T> codec) throws IOException {
+    List<T> list = new ArrayList<>();
+    CsvTokenizer tokenizer = newTokenizer();
+
+    try (BufferedReader reader = new BufferedReader(new InputStreamReader(source, encoding))) {
+      Function<String[], T> mapper = codec.reader();
+      String line;
+      if (headerLine) {
+        line = reader.readLine();
+        if (line != null) {
+          mapper = codec.reader(tokenizeHeader(line));
+        }
+      }
+      while ((line = reader.readLine()) != null) {
+        tokenizer.tokenize(line);
+        list.add(mapper.apply(tokenizer.toArray()));
+      }
+    }
+
+    return list;
+  }
+
+  @Override
+  public <T> List<T> read(InputStream source, Function<String[], T> mapper, CsvProjection projection)
+          throws IOException {
+    List<T> list = new ArrayList<>();
+    CsvTokenizer tokenizer = newTokenizer();
+
+    try (BufferedReader reader = new BufferedReader(new InputStreamReader(source, encoding))) {
+      String[] header = null;
+      if (headerLine) {
+        String line = reader.readLine();
+        if (line == null) {
+          return list;
+        }
+        if (projection.byName()) {
+          header = tokenizeHeader(line);
+        }
+      }
+      boolean[] selected = projection.resolve(header);
+      String line;
+      while ((line = reader.readLine()) != null) {
+        tokenizer.tokenize(line);
+        list.add(mapper.apply(tokenizer.toArray(selected)));
+      }
+    }
+
+    return list;
+  }
+
+  @Override
+  public void readRows(InputStream source, Consumer<? super CsvRow> consumer) throws IOException {
+    CsvTokenizer tokenizer = newTokenizer();
+    CsvRow row = new CsvRow(tokenizer);
+
+    try (BufferedReader reader = new BufferedReader(new InputStreamReader(source, encoding))) {
+      String line;
+      if (headerLine && reader.readLine() != null) {
+        // Skip the header line
+      }
+      while ((line = reader.readLine()) != null) {
+        tokenizer.tokenize(line);
+        consumer.accept(row);
+      }
+    }
+  }
+
+  @Override
+  public <T> List<T> read(InputStream source, Predicate<? super CsvRow> filter, Function<String[], T> mapper)
+          throws IOException {
+    List<T> list = new ArrayList<>();
+    readRows(source, row -> {
+      if (filter.test(row)) {
+        list.add(mapper.apply(row.toArray()));
+      }
+    });
+    return list;
+  }
+
+  @Override
+  public <T> Stream<T> stream(InputStream source, Function<String[], T> mapper) throws IOException {
+    BufferedReader reader = new BufferedReader(new InputStreamReader(source, encoding));
+    try {
+      if (headerLine) {
+        // Skip the header line
+        reader.readLine();
+      }
+    } catch (IOException e) {
+      reader.close();
+      throw e;
+    }
+    RecordIterator<T> records = new RecordIterator<>(reader, mapper);
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(records, Spliterator.ORDERED), false)
+            .onClose(records::close);
+  }
+
+  @Override
+  public <T> List<T> read(Path source, Function<String[], T> mapper, int parallelism) throws IOException {
+    return new ChunkedFileReader(Charset.forName(encoding), quoteCharacter, headerLine, this::newTokenizer)
+            .read(source, mapper, parallelism);
+  }
+
+  @Override
+  public <T> void forEach(Path source, Function<String[], T> mapper, Consumer<? super T> action,
+                          int parallelism) throws IOException {
+    new ChunkedFileReader(Charset.forName(encoding), quoteCharacter, headerLine, this::newTokenizer)
+            .forEach(source, mapper, action, parallelism);
+  }
+
+  @Override
+  public void readBytes(InputStream source, Consumer<? super CsvByteRow> consumer) throws IOException {
+    CsvByteRow row = new CsvByteRow(Charset.forName(encoding), quoteCharacter, valuesDelimiter);
+    try (InputStream in = source) {
+      new ByteRecordReader(in, headerLine, row).forEach(consumer);
+    }
+  }
+
+  @Override
+  public <T> CsvTailReader<T> follow(Path source, Function<String[], T> mapper, Consumer<? super T> listener) {
+    return new CsvTailReader<>(source, Charset.forName(encoding), quoteCharacter, headerLine, newTokenizer(),
+            mapper, listener);
+  }
+
   @Override
   public <T> void write(OutputStream dest, List<T> values, Function<T, String[]> mapper) throws IOException {
     try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(dest, encoding))) {
       for (int i = 0, valuesSize = values.size(); i < valuesSize; i++) {
-        T value = values.get(i);
-        String[] strings = mapper.apply(value);
-        String line = String.join(valuesDelimiter, applyQuotes(strings));
-        writer.write(line);
-        writer.newLine();
-        // Adds a newline after each record
+        writeLine(writer, mapper.apply(values.get(i)));
       }
     }
   }
 
-  private String removeZero(String line) {
-    return line.contains(";'';'';'';'';") ? "0;'';'';'';'';" : line;
-  }
-
-  private String[] parseCsvLine(String line) {
-    List<String> values = new ArrayList<>();
-    StringBuilder currentValue = new StringBuilder();
-    boolean insideQuotes = false;
-
-    for (int i = 0; i < line.length(); i++) {
-      char c = line.charAt(i);
-
-      if (c == quoteCharacter.charAt(0)) {
-        if (insideQuotes && i + 1 < line.length() && line.charAt(i + 1) == quoteCharacter.charAt(0)) {
-          // Handle escaped quote
-          currentValue.append(quoteCharacter);
-          i++; // Skip next character
-        } else if (insideQuotes && line.charAt(i - 1) == quoteCharacter.charAt(0)) {
-          currentValue.append("\'\'");
-          // Toggle insideQuotes flag
-          insideQuotes = !insideQuotes;
-        } else {
-          // Toggle insideQuotes flag
-          insideQuotes = !insideQuotes;
+  @Override
+  public <T> void write(OutputStream dest, List<T> values, Function<T, String[]> mapper,
+                        int parallelism) throws IOException {
+    if (parallelism < 1) {
+      throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+    }
+    Charset charset = Charset.forName(encoding);
+    if (parallelism == 1 || values.size() <= WRITE_SLICE_SIZE || !encodesInPieces(charset)) {
+      write(dest, values, mapper);
+      return;
+    }
+    ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+    try (OutputStream out = new BufferedOutputStream(dest, 1 << 16)) {
+      Deque<Future<byte[]>> pending = new ArrayDeque<>();
+      for (int from = 0, size = values.size(); from < size; from += WRITE_SLICE_SIZE) {
+        int start = from;
+        int end = Math.min(size, from + WRITE_SLICE_SIZE);
+        pending.add(executor.submit(() -> formatSlice(values, start, end, mapper, charset)));
+        // Bound the formatted slices held in memory to a few per thread
+        if (pending.size() > parallelism * 2) {
+          out.write(awaitSlice(pending.remove()));
         }
-      } else if (c == valuesDelimiter.charAt(0) && !insideQuotes) {
-        // When not inside quotes, split at delimiter
-        values.add(currentValue.toString().trim());
-        currentValue.setLength(0); // Clear the buffer
-      } else {
-        // Add character to the current value
-        currentValue.append(c);
       }
+      while (!pending.isEmpty()) {
+        out.write(awaitSlice(pending.remove()));
+      }
+    } finally {
+      executor.shutdownNow();
     }
+  }
+
+  @Override
+  public <T> CsvWriter<T> openWriter(OutputStream dest, Function<T, String[]> mapper) throws IOException {
+    return new SessionWriter<>(new BufferedWriter(new OutputStreamWriter(dest, encoding)), mapper);
+  }
 
-    // Add the last value
-    values.add(currentValue.toString().trim());
+  private void writeLine(Writer writer, String[] strings) throws IOException {
+    writer.write(formatLine(strings));
+    // Adds a newline after each record
+    writer.write(System.lineSeparator());
+  }
 
-    // Remove quotes from all values
-    return values.stream()
-            .map(this::removeQuotes)
-            .toArray(String[]::new);
+  private String formatLine(String[] strings) {
+    return String.join(valuesDelimiter, applyQuotes(strings));
   }
 
-  private String removeQuotes(String value) {
-    if (value.startsWith(quoteCharacter) && value.endsWith(quoteCharacter) && value.length() > 2) {
-      value = value.substring(1, value.length() - 1);
-      // Replace double quotes with single quotes if necessary
-      value = value.replace(quoteCharacter + quoteCharacter, quoteCharacter);
+  private <T> byte[] formatSlice(List<T> values, int from, int to, Function<T, String[]> mapper, Charset charset) {
+    StringBuilder slice = new StringBuilder();
+    for (int i = from; i < to; i++) {
+      slice.append(formatLine(mapper.apply(values.get(i)))).append(System.lineSeparator());
     }
-    return value;
+    return slice.toString().getBytes(charset);
+  }
+
+  private static byte[] awaitSlice(Future<byte[]> slice) throws IOException {
+    try {
+      return slice.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while formatting", e);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new IOException(cause);
+    }
+  }
+
+  private static boolean encodesInPieces(Charset charset) {
+    // Stateful encodings, e.g. UTF-16 with its byte order mark, cannot be encoded slice by slice
+    byte[] piece = "a".getBytes(charset);
+    byte[] whole = "aa".getBytes(charset);
+    return whole.length == piece.length * 2
+            && Arrays.equals(whole, 0, piece.length, piece, 0, piece.length)
+            && Arrays.equals(whole, piece.length, whole.length, piece, 0, piece.length);
+  }
+
+  private String removeZero(String line) {
+    return line.contains(";'';'';'';'';") ? "0;'';'';'';'';" : line;
+  }
+
+  CsvTokenizer newTokenizer() {
+    return new CsvTokenizer(quoteCharacter, valuesDelimiter, dictionaries);
+  }
+
+  private String[] tokenizeHeader(String line) {
+    // Column names would skew the intern statistics and take up dictionary slots
+    CsvTokenizer tokenizer = new CsvTokenizer(quoteCharacter, valuesDelimiter);
+    tokenizer.tokenize(line);
+    return tokenizer.toArray();
   }
 
   private String[] applyQuotes(String[] values) {
@@ -126,4 +335,108 @@ public class CsvStorageImpl implements CsvStorage {
     }
     return quotedValues;
   }
+
+  private class RecordIterator<T> implements Iterator<T>, Closeable {
+    private final BufferedReader reader;
+    private final Function<String[], T> mapper;
+    private final CsvTokenizer tokenizer = newTokenizer();
+    private String nextLine;
+    private boolean closed;
+
+    RecordIterator(BufferedReader reader, Function<String[], T> mapper) {
+      this.reader = reader;
+      this.mapper = mapper;
+    }
+
+    @Override
+    public boolean hasNext() {
+      if (nextLine != null) {
+        return true;
+      }
+      if (closed) {
+        return false;
+      }
+      try {
+        nextLine = reader.readLine();
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      if (nextLine == null) {
+        // Release the reader as soon as the last record has been handed out
+        close();
+      }
+      return nextLine != null;
+    }
+
+    @Override
+    public T next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      String line = nextLine;
+      nextLine = null;
+      tokenizer.tokenize(line);
+      return mapper.apply(tokenizer.toArray());
+    }
+
+    @Override
+    public void close() {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      try {
+        reader.close();
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+  }
+
+  private class SessionWriter<T> implements CsvWriter<T> {
+    private final BufferedWriter writer;
+    private final Function<T, String[]> mapper;
+    private boolean closed;
+
+    SessionWriter(BufferedWriter writer, Function<T, String[]> mapper) {
+      this.writer = writer;
+      this.mapper = mapper;
+    }
+
+    @Override
+    public void write(T value) throws IOException {
+      ensureOpen();
+      writeLine(writer, mapper.apply(value));
+    }
+
+    @Override
+    public void writeAll(Iterator<? extends T> values) throws IOException {
+      ensureOpen();
+      while (values.hasNext()) {
+        writeLine(writer, mapper.apply(values.next()));
+      }
+    }
+
+    @Override
+    public void flush() throws IOException {
+      ensureOpen();
+      writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (closed) {
+        return;
+      }
+      // The destination belongs to the caller, so only push out what is buffered
+      writer.flush();
+      closed = true;
+    }
+
+    private void ensureOpen() throws IOException {
+      if (closed) {
+        throw new IOException("Writer is closed");
+      }
+    }
+  }
 }
@@ -0,0 +1,240 @@
+package com.epam.rd.autocode.assessment.basics.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Follows a csv file that is being appended to. Each {@link #poll} reads from the end of the
+ * last complete record to the current end of the file and passes every newly completed record
+ * to the listener; a trailing partial record is left in the file until its line break arrives.
+ * Blank lines reach the mapper as records, as they do with {@link CsvStorage#read}.
+ * A file that has become shorter than the offset read so far is taken to be truncated or
+ * replaced, and is read again from the start.
+ * <p>
+ * {@link #start} polls on a background thread, woken by a {@link WatchService} on the file's
+ * directory and at least once per poll interval, since not every file system reports changes.
+ * A failure on that thread stops it and is reported by {@link #close}.
+ */
+public final class CsvTailReader<T> implements Closeable {
+  private static final int CHUNK_SIZE = 1 << 16;
+
+  private final Path file;
+  private final Charset charset;
+  private final boolean quoted;
+  private final byte quote;
+  private final boolean headerLine;
+  private final CsvTokenizer tokenizer;
+  private final Function<String[], T> mapper;
+  private final Consumer<? super T> listener;
+  private final ByteBuffer chunk = ByteBuffer.allocate(CHUNK_SIZE);
+
+  private byte[] record = new byte[256];
+  private long offset;
+  private boolean headerRead;
+  private Thread worker;
+  private WatchService watcher;
+  private volatile boolean closed;
+  private volatile Throwable failure;
+
+  CsvTailReader(Path file, Charset charset, String quoteCharacter, boolean headerLine, CsvTokenizer tokenizer,
+                Function<String[], T> mapper, Consumer<? super T> listener) {
+    if ("\n".getBytes(charset).length != 1) {
+      throw new IllegalArgumentException("Tail read requires an ASCII compatible encoding: " + charset);
+    }
+    byte[] quoteBytes = quoteCharacter.isEmpty() ? new byte[0] : quoteCharacter.substring(0, 1).getBytes(charset);
+    if (quoteBytes.length > 1) {
+      throw new IllegalArgumentException("Quote character must be a single byte in " + charset);
+    }
+    this.file = file;
+    this.charset = charset;
+    this.quoted = quoteBytes.length == 1;
+    this.quote = quoted ? quoteBytes[0] : 0;
+    this.headerLine = headerLine;
+    this.tokenizer = tokenizer;
+    this.mapper = mapper;
+    this.listener = listener;
+  }
+
+  /**
+   * The file offset just past the last complete record read.
+   */
+  public synchronized long getOffset() {
+    return offset;
+  }
+
+  /**
+   * Reads the records completed since the last poll. A record whose mapping or listener fails
+   * is read again by the next poll. A missing file counts as empty.
+   *
+   * @return the number of records passed to the listener
+   */
+  public synchronized int poll() throws IOException {
+    FileChannel channel;
+    try {
+      channel = FileChannel.open(file, StandardOpenOption.READ);
+    } catch (NoSuchFileException e) {
+      return 0;
+    }
+    try (channel) {
+      long size = channel.size();
+      if (size < offset) {
+        offset = 0;
+        headerRead = false;
+      }
+      int count = 0;
+      int length = 0;
+      boolean inside = false;
+      boolean pendingCr = false;
+      long position = offset;
+      while (position < size) {
+        chunk.clear();
+        int read = channel.read(chunk, position);
+        if (read <= 0) {
+          break;
+        }
+        for (int i = 0; i < read; i++) {
+          byte b = chunk.get(i);
+          if (pendingCr) {
+            // A carriage return ends the record; a line feed right after it belongs to the same break
+            pendingCr = false;
+            long end = position + i;
+            if (b == '\n') {
+              count += complete(length, end + 1);
+              length = 0;
+              continue;
+            }
+            count += complete(length, end);
+            length = 0;
+          }
+          if (quoted && b == quote) {
+            inside = !inside;
+          } else if (!inside && b == '\n') {
+            count += complete(length, position + i + 1);
+            length = 0;
+            continue;
+          } else if (!inside && b == '\r') {
+            pendingCr = true;
+            continue;
+          }
+          if (length == record.length) {
+            record = Arrays.copyOf(record, length * 2);
+          }
+          record[length++] = b;
+        }
+        position += read;
+      }
+      return count;
+    }
+  }
+
+  /**
+   * Starts polling on a background thread.
+   */
+  public synchronized void start(Duration pollInterval) throws IOException {
+    if (pollInterval.isNegative() || pollInterval.isZero()) {
+      throw new IllegalArgumentException("Poll interval must be positive");
+    }
+    if (closed || worker != null) {
+      throw new IllegalStateException(closed ? "Reader is closed" : "Reader is already started");
+    }
+    Path directory = file.toAbsolutePath().getParent();
+    try {
+      watcher = file.getFileSystem().newWatchService();
+      directory.register(watcher, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+    } catch (IOException | UnsupportedOperationException e) {
+      // Plain polling still sees every change
+      if (watcher != null) {
+        watcher.close();
+      }
+      watcher = null;
+    }
+    long intervalMillis = Math.max(1, pollInterval.toMillis());
+    worker = new Thread(() -> follow(intervalMillis), "csv-tail-reader");
+    worker.setDaemon(true);
+    worker.start();
+  }
+
+  /**
+   * Stops the background thread, if any.
+   *
+   * @throws IOException if the background thread failed
+   */
+  @Override
+  public void close() throws IOException {
+    Thread thread;
+    synchronized (this) {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      thread = worker;
+      if (watcher != null) {
+        watcher.close();
+      }
+    }
+    if (thread != null) {
+      thread.interrupt();
+      try {
+        thread.join();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IOException("Interrupted while closing", e);
+      }
+    }
+    Throwable cause = failure;
+    if (cause != null) {
+      throw new IOException("Background read failed", cause);
+    }
+  }
+
+  private void follow(long intervalMillis) {
+    try {
+      while (!closed) {
+        poll();
+        if (watcher == null) {
+          Thread.sleep(intervalMillis);
+          continue;
+        }
+        WatchKey key = watcher.poll(intervalMillis, TimeUnit.MILLISECONDS);
+        if (key != null) {
+          key.pollEvents();
+          key.reset();
+        }
+      }
+    } catch (InterruptedException | ClosedWatchServiceException e) {
+      // Closed while waiting
+    } catch (Throwable e) {
+      if (!closed) {
+        failure = e;
+      }
+    }
+  }
+
+  private int complete(int length, long end) {
+    boolean header = headerLine && !headerRead;
+    headerRead = true;
+    int count = 0;
+    if (!header) {
+      tokenizer.tokenize(new String(record, 0, length, charset));
+      listener.accept(mapper.apply(tokenizer.toArray()));
+      count = 1;
+    }
+    offset = end;
+    return count;
+  }
+}
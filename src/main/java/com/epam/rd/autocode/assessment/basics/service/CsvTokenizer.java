@@ -0,0 +1,195 @@
+package com.epam.rd.autocode.assessment.basics.service;
+
+import java.util.Arrays;
+
+/**
+ * Splits csv lines in a single pass. Field boundaries are kept as offsets in reusable
+ * arrays and a {@code String} is only created when a field is requested, so tokenizing
+ * a line allocates nothing once the arrays have grown to the widest row.
+ * Instances are not thread-safe.
+ */
+final class CsvTokenizer {
+  private static final String EMPTY = "";
+
+  private final char delimiter;
+  private final boolean quoted;
+  private final char quote;
+  private final StringBuilder scratch = new StringBuilder();
+  private final StringDictionary[] dictionaries;
+
+  private String line;
+  private int count;
+  private int[] starts = new int[16];
+  private int[] ends = new int[16];
+  private boolean[] hasQuotes = new boolean[16];
+
+  CsvTokenizer(String quoteCharacter, String valuesDelimiter) {
+    this(quoteCharacter, valuesDelimiter, new StringDictionary[0]);
+  }
+
+  /**
+   * @param dictionaries intern tables by column index; columns without one get fresh strings
+   */
+  CsvTokenizer(String quoteCharacter, String valuesDelimiter, StringDictionary[] dictionaries) {
+    this.dictionaries = dictionaries;
+    this.delimiter = valuesDelimiter.charAt(0);
+    this.quoted = !quoteCharacter.isEmpty();
+    this.quote = quoted ? quoteCharacter.charAt(0) : 0;
+  }
+
+  int tokenize(String line) {
+    this.line = line;
+    count = 0;
+    boolean insideQuotes = false;
+    boolean fieldHasQuotes = false;
+    int fieldStart = 0;
+    for (int i = 0, length = line.length(); i < length; i++) {
+      char c = line.charAt(i);
+      if (quoted && c == quote) {
+        fieldHasQuotes = true;
+        if (insideQuotes && i + 1 < length && line.charAt(i + 1) == quote) {
+          // Escaped quote, the pair does not change the state
+          i++;
+        } else {
+          insideQuotes = !insideQuotes;
+        }
+      } else if (c == delimiter && !insideQuotes) {
+        addField(fieldStart, i, fieldHasQuotes);
+        fieldStart = i + 1;
+        fieldHasQuotes = false;
+      }
+    }
+    addField(fieldStart, line.length(), fieldHasQuotes);
+    return count;
+  }
+
+  int size() {
+    return count;
+  }
+
+  String line() {
+    return line;
+  }
+
+  int start(int index) {
+    checkIndex(index);
+    return starts[index];
+  }
+
+  int end(int index) {
+    checkIndex(index);
+    return ends[index];
+  }
+
+  boolean hasQuotes(int index) {
+    checkIndex(index);
+    return hasQuotes[index];
+  }
+
+  String field(int index) {
+    checkIndex(index);
+    StringDictionary dictionary = index < dictionaries.length ? dictionaries[index] : null;
+    return hasQuotes[index]
+            ? unquote(starts[index], ends[index], dictionary)
+            : plain(starts[index], ends[index], dictionary);
+  }
+
+  String[] toArray() {
+    String[] values = new String[count];
+    for (int i = 0; i < count; i++) {
+      values[i] = field(i);
+    }
+    return values;
+  }
+
+  /**
+   * Like {@link #toArray()}, but only creates strings for the selected fields and leaves
+   * the others {@code null}. The array still has one slot per field of the line.
+   */
+  String[] toArray(boolean[] selected) {
+    String[] values = new String[count];
+    for (int i = 0, limit = Math.min(count, selected.length); i < limit; i++) {
+      if (selected[i]) {
+        values[i] = field(i);
+      }
+    }
+    return values;
+  }
+
+  private void addField(int start, int end, boolean fieldHasQuotes) {
+    if (count == starts.length) {
+      starts = Arrays.copyOf(starts, count * 2);
+      ends = Arrays.copyOf(ends, count * 2);
+      hasQuotes = Arrays.copyOf(hasQuotes, count * 2);
+    }
+    starts[count] = start;
+    ends[count] = end;
+    hasQuotes[count] = fieldHasQuotes;
+    count++;
+  }
+
+  private void checkIndex(int index) {
+    if (index < 0 || index >= count) {
+      throw new IndexOutOfBoundsException("Field " + index + " of " + count);
+    }
+  }
+
+  private String plain(int start, int end, StringDictionary dictionary) {
+    while (start < end && line.charAt(start) <= ' ') {
+      start++;
+    }
+    while (end > start && line.charAt(end - 1) <= ' ') {
+      end--;
+    }
+    if (start == end) {
+      return EMPTY;
+    }
+    return dictionary == null ? line.substring(start, end) : dictionary.intern(line, start, end);
+  }
+
+  private String unquote(int start, int end, StringDictionary dictionary) {
+    StringBuilder value = scratch;
+    value.setLength(0);
+    boolean insideQuotes = false;
+    for (int i = start; i < end; i++) {
+      char c = line.charAt(i);
+      if (c != quote) {
+        value.append(c);
+      } else if (insideQuotes && i + 1 < end && line.charAt(i + 1) == quote) {
+        value.append(quote);
+        i++;
+      } else if (insideQuotes && line.charAt(i - 1) == quote) {
+        // An empty quoted value is kept as a pair of apostrophes, the mapper turns it into ""
+        value.append("''");
+        insideQuotes = false;
+      } else {
+        insideQuotes = !insideQuotes;
+      }
+    }
+
+    int from = 0;
+    int to = value.length();
+    while (from < to && value.charAt(from) <= ' ') {
+      from++;
+    }
+    while (to > from && value.charAt(to - 1) <= ' ') {
+      to--;
+    }
+    if (to - from > 2 && value.charAt(from) == quote && value.charAt(to - 1) == quote) {
+      // Strip the outer quotes and collapse doubled ones in place
+      int write = from;
+      for (int read = from + 1; read < to - 1; read++) {
+        char c = value.charAt(read);
+        value.setCharAt(write++, c);
+        if (c == quote && read + 1 < to - 1 && value.charAt(read + 1) == quote) {
+          read++;
+        }
+      }
+      to = write;
+    }
+    if (from == to) {
+      return EMPTY;
+    }
+    return dictionary == null ? value.substring(from, to) : dictionary.intern(value, from, to);
+  }
+}
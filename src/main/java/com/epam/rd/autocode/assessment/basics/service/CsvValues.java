@@ -0,0 +1,110 @@
+package com.epam.rd.autocode.assessment.basics.service;
+
+import com.epam.rd.autocode.assessment.basics.entity.Money;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Conversions between csv field text and field values, shared by {@link MapperImpl}
+ * and {@link EntityCodec} so both follow the same rules for empty and quoted values.
+ */
+final class CsvValues {
+
+  private CsvValues() {
+  }
+
+  static long parseLong(String value) {
+    return value == null || value.trim().isEmpty() || value.trim().equals("''") ? 0 : Long.parseLong(value.trim());
+  }
+
+  static int parseInt(String value) {
+    return value == null || value.trim().isEmpty() || value.trim().equals("''") ? 0 : Integer.parseInt(value.trim());
+  }
+
+  static BigDecimal parseBigDecimal(String value) {
+    if (value == null) return null;
+    int start = 0;
+    int end = value.length();
+    while (start < end && value.charAt(start) <= ' ') start++;
+    while (end > start && value.charAt(end - 1) <= ' ') end--;
+    if (start == end || isEmptyQuotes(value, start, end)) return null;
+    int scale = Money.scaleOf(value, start, end);
+    if (scale <= Money.MAX_SCALE) {
+      try {
+        return BigDecimal.valueOf(Money.parseMinor(value, start, end, scale), scale);
+      } catch (NumberFormatException | ArithmeticException e) {
+        // Exponents, long values and malformed input take the general path
+      }
+    }
+    return new BigDecimal(value.substring(start, end));
+  }
+
+  static String parseString(String value) {
+    if (value == null || value.isEmpty()) return null;
+    value = (value.equals("\"\"") || value.equals("\'\'") ? "" : value.trim());
+
+    return value;
+  }
+
+  static <E extends Enum<E>> E parseEnum(Class<E> enumType, String value) {
+    return EnumDecoder.of(enumType).decode(value);
+  }
+
+  static LocalDate parseDate(String value) {
+    if (value == null) return null;
+    return parseDate(value, 0, value.length());
+  }
+
+  static LocalDate parseDate(CharSequence chars, int start, int end) {
+    while (start < end && chars.charAt(start) <= ' ') start++;
+    while (end > start && chars.charAt(end - 1) <= ' ') end--;
+    if (start == end) return null;
+    try {
+      return IsoDateParser.parseDate(chars, start, end);
+    } catch (DateTimeParseException e) {
+      throw new IllegalArgumentException("Invalid date format", e);
+    }
+  }
+
+  static LocalDateTime parseDateTime(String value) {
+    if (value == null) return null;
+    return parseDateTime(value, 0, value.length());
+  }
+
+  static LocalDateTime parseDateTime(CharSequence chars, int start, int end) {
+    while (start < end && chars.charAt(start) <= ' ') start++;
+    while (end > start && chars.charAt(end - 1) <= ' ') end--;
+    if (start == end || isEmptyQuotes(chars, start, end)) return null;
+    try {
+      return IsoDateParser.parseDateTime(chars, start, end);
+    } catch (DateTimeParseException e) {
+      throw new IllegalArgumentException("Invalid DateTime format", e);
+    }
+  }
+
+  private static boolean isEmptyQuotes(CharSequence chars, int start, int end) {
+    return end - start == 2 && chars.charAt(start) == '\'' && chars.charAt(start + 1) == '\'';
+  }
+
+  static String formatLong(long value) {
+    return value == 0 ? "" : Long.toString(value);
+  }
+
+  static String formatInt(int value) {
+    return value == 0 ? "" : Integer.toString(value);
+  }
+
+  static String formatString(String value) {
+    if (value == null) {
+      return "";
+    }
+    return value.isEmpty() ? "\"\"" : value;
+  }
+
+  static String formatObject(Object value) {
+    return value == null ? "" : value.toString();
+  }
+}
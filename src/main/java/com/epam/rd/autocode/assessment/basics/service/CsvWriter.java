@@ -0,0 +1,25 @@
+package com.epam.rd.autocode.assessment.basics.service;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * A write session bound to one destination stream. Records can be appended any number of
+ * times; closing the session flushes pending output but leaves the destination open.
+ */
+public interface CsvWriter<T> extends Closeable, Flushable {
+    void write(T value) throws IOException;
+
+    void writeAll(Iterator<? extends T> values) throws IOException;
+
+    default void writeAll(Iterable<? extends T> values) throws IOException {
+        writeAll(values.iterator());
+    }
+
+    default void writeAll(Stream<? extends T> values) throws IOException {
+        writeAll(values.iterator());
+    }
+}
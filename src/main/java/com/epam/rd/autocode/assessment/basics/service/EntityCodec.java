@@ -0,0 +1,274 @@
+package com.epam.rd.autocode.assessment.basics.service;
+
+import com.epam.rd.autocode.assessment.basics.entity.Book;
+import com.epam.rd.autocode.assessment.basics.entity.Client;
+import com.epam.rd.autocode.assessment.basics.entity.Employee;
+import com.epam.rd.autocode.assessment.basics.entity.Order;
+import com.epam.rd.autocode.assessment.basics.entity.enums.AgeGroup;
+import com.epam.rd.autocode.assessment.basics.entity.enums.Language;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Maps entities to and from csv columns by header name. Binding to a header resolves every
+ * column once and returns a mapper that only runs the precomposed parse-and-set (or get-and-format)
+ * step of each bound column, so rows pay nothing for the column order of the file.
+ * Values follow the same rules as {@link MapperImpl}.
+ */
+public final class EntityCodec<T> {
+  private final Supplier<T> factory;
+  private final List<Column<T>> columns;
+  private final Map<String, Column<T>> byName = new HashMap<>();
+
+  private EntityCodec(Supplier<T> factory, List<Column<T>> columns) {
+    this.factory = factory;
+    this.columns = columns;
+    for (Column<T> column : columns) {
+      byName.put(key(column.name), column);
+    }
+  }
+
+  public static EntityCodec<Book> books() {
+    List<Column<Book>> columns = new ArrayList<>();
+    columns.add(longColumn("id", Book::setId, Book::getId));
+    columns.add(stringColumn("name", Book::setName, Book::getName));
+    columns.add(stringColumn("genre", Book::setGenre, Book::getGenre));
+    columns.add(enumColumn("ageGroup", AgeGroup.class, Book::setAgeGroup, Book::getAgeGroup));
+    columns.add(decimalColumn("price", Book::setPrice, Book::getPrice));
+    columns.add(dateColumn("publicationDate", Book::setPublicationDate, Book::getPublicationDate));
+    columns.add(stringColumn("author", Book::setAuthor, Book::getAuthor));
+    columns.add(intColumn("numberOfPages", Book::setNumberOfPages, Book::getNumberOfPages));
+    columns.add(stringColumn("characteristics", Book::setCharacteristics, Book::getCharacteristics));
+    columns.add(stringColumn("description", Book::setDescription, Book::getDescription));
+    columns.add(enumColumn("language", Language.class, Book::setLanguage, Book::getLanguage));
+    return new EntityCodec<>(Book::new, columns);
+  }
+
+  public static EntityCodec<Client> clients() {
+    List<Column<Client>> columns = new ArrayList<>();
+    columns.add(longColumn("id", Client::setId, Client::getId));
+    columns.add(stringColumn("email", Client::setEmail, Client::getEmail));
+    columns.add(stringColumn("password", Client::setPassword, Client::getPassword));
+    columns.add(stringColumn("name", Client::setName, Client::getName));
+    columns.add(decimalColumn("balance", Client::setBalance, Client::getBalance));
+    return new EntityCodec<>(Client::new, columns);
+  }
+
+  public static EntityCodec<Employee> employees() {
+    List<Column<Employee>> columns = new ArrayList<>();
+    // Same as MapperImpl: a zero id of a named employee is written as "0"
+    columns.add(new Column<>("id", (employee, value) -> employee.setId(CsvValues.parseLong(value)),
+            employee -> employee.getId() == 0 && employee.getName() != null && !employee.getName().isEmpty()
+                    ? "0" : CsvValues.formatLong(employee.getId())));
+    columns.add(stringColumn("email", Employee::setEmail, Employee::getEmail));
+    columns.add(stringColumn("password", Employee::setPassword, Employee::getPassword));
+    columns.add(stringColumn("name", Employee::setName, Employee::getName));
+    columns.add(stringColumn("phone", Employee::setPhone, Employee::getPhone));
+    columns.add(dateColumn("birthDate", Employee::setBirthDate, Employee::getBirthDate));
+    return new EntityCodec<>(Employee::new, columns);
+  }
+
+  public static EntityCodec<Order> orders() {
+    List<Column<Order>> columns = new ArrayList<>();
+    columns.add(longColumn("id", Order::setId, Order::getId));
+    columns.add(longColumn("clientId", Order::setClientId, Order::getClientId));
+    columns.add(longColumn("employeeId", Order::setEmployeeId, Order::getEmployeeId));
+    columns.add(longColumn("bookId", Order::setBookId, Order::getBookId));
+    columns.add(intColumn("numberOfBooks", Order::setNumberOfBooks, Order::getNumberOfBooks));
+    columns.add(dateTimeColumn("orderDate", Order::setOrderDate, Order::getOrderDate));
+    columns.add(decimalColumn("price", Order::setPrice, Order::getPrice));
+    return new EntityCodec<>(Order::new, columns);
+  }
+
+  /**
+   * The column names in the order {@link MapperImpl} reads and writes them.
+   */
+  public String[] header() {
+    String[] header = new String[columns.size()];
+    for (int i = 0; i < header.length; i++) {
+      header[i] = columns.get(i).name;
+    }
+    return header;
+  }
+
+  public Function<String[], T> reader() {
+    return reader(header());
+  }
+
+  /**
+   * Binds the codec to a header. Names are matched ignoring case and surrounding spaces;
+   * unknown columns are skipped and entity fields without a column keep their default value.
+   */
+  public Function<String[], T> reader(String[] header) {
+    List<Integer> positions = new ArrayList<>();
+    List<Column<T>> bound = new ArrayList<>();
+    for (int i = 0; i < header.length; i++) {
+      Column<T> column = header[i] == null ? null : byName.get(key(header[i]));
+      if (column != null && !bound.contains(column)) {
+        positions.add(i);
+        bound.add(column);
+      }
+    }
+    int[] indexes = new int[bound.size()];
+    String[] names = new String[bound.size()];
+    List<FieldDecoder<T>> decoders = new ArrayList<>(bound.size());
+    for (int i = 0; i < indexes.length; i++) {
+      indexes[i] = positions.get(i);
+      names[i] = bound.get(i).name;
+      decoders.add(bound.get(i).decoder);
+    }
+    return new BoundReader<>(factory, indexes, names, decoders);
+  }
+
+  public Function<T, String[]> writer() {
+    return writer(header());
+  }
+
+  public Function<T, String[]> writer(String[] header) {
+    List<FieldEncoder<T>> encoders = new ArrayList<>(header.length);
+    for (String name : header) {
+      Column<T> column = byName.get(key(name));
+      if (column == null) {
+        throw new IllegalArgumentException("Unknown column: " + name);
+      }
+      encoders.add(column.encoder);
+    }
+    return new BoundWriter<>(encoders);
+  }
+
+  private static String key(String name) {
+    return name.trim().toLowerCase(Locale.ROOT);
+  }
+
+  private static <T> Column<T> longColumn(String name, ObjLongConsumer<T> setter, ToLongFunction<T> getter) {
+    return new Column<>(name, (target, value) -> setter.accept(target, CsvValues.parseLong(value)),
+            source -> CsvValues.formatLong(getter.applyAsLong(source)));
+  }
+
+  private static <T> Column<T> intColumn(String name, ObjIntConsumer<T> setter, ToIntFunction<T> getter) {
+    return new Column<>(name, (target, value) -> setter.accept(target, CsvValues.parseInt(value)),
+            source -> CsvValues.formatInt(getter.applyAsInt(source)));
+  }
+
+  private static <T> Column<T> stringColumn(String name, BiConsumer<T, String> setter, Function<T, String> getter) {
+    return new Column<>(name, (target, value) -> setter.accept(target, CsvValues.parseString(value)),
+            source -> CsvValues.formatString(getter.apply(source)));
+  }
+
+  private static <T> Column<T> decimalColumn(String name, BiConsumer<T, BigDecimal> setter,
+                                             Function<T, BigDecimal> getter) {
+    return new Column<>(name, (target, value) -> setter.accept(target, CsvValues.parseBigDecimal(value)),
+            source -> CsvValues.formatObject(getter.apply(source)));
+  }
+
+  private static <T> Column<T> dateColumn(String name, BiConsumer<T, LocalDate> setter,
+                                          Function<T, LocalDate> getter) {
+    return new Column<>(name, (target, value) -> setter.accept(target, CsvValues.parseDate(value)),
+            source -> CsvValues.formatObject(getter.apply(source)));
+  }
+
+  private static <T> Column<T> dateTimeColumn(String name, BiConsumer<T, LocalDateTime> setter,
+                                              Function<T, LocalDateTime> getter) {
+    return new Column<>(name, (target, value) -> setter.accept(target, CsvValues.parseDateTime(value)),
+            source -> CsvValues.formatObject(getter.apply(source)));
+  }
+
+  private static <T, E extends Enum<E>> Column<T> enumColumn(String name, Class<E> type, BiConsumer<T, E> setter,
+                                                             Function<T, E> getter) {
+    return new Column<>(name, (target, value) -> setter.accept(target, CsvValues.parseEnum(type, value)),
+            source -> CsvValues.formatObject(getter.apply(source)));
+  }
+
+  private interface FieldDecoder<T> {
+    void decode(T target, String value);
+  }
+
+  private interface FieldEncoder<T> {
+    String encode(T source);
+  }
+
+  private static final class Column<T> {
+    final String name;
+    final FieldDecoder<T> decoder;
+    final FieldEncoder<T> encoder;
+
+    Column(String name, FieldDecoder<T> decoder, FieldEncoder<T> encoder) {
+      this.name = name;
+      this.decoder = decoder;
+      this.encoder = encoder;
+    }
+  }
+
+  private static final class BoundReader<T> implements Function<String[], T> {
+    private final Supplier<T> factory;
+    private final int[] indexes;
+    private final String[] names;
+    private final FieldDecoder<T>[] decoders;
+
+    @SuppressWarnings("unchecked")
+    BoundReader(Supplier<T> factory, int[] indexes, String[] names, List<FieldDecoder<T>> decoders) {
+      this.factory = factory;
+      this.indexes = indexes;
+      this.names = names;
+      this.decoders = (FieldDecoder<T>[]) decoders.toArray(new FieldDecoder<?>[0]);
+    }
+
+    @Override
+    public T apply(String[] values) {
+      if (values == null || values.length == 0) {
+        return null;
+      }
+      T target = factory.get();
+      int i = 0;
+      try {
+        for (; i < decoders.length; i++) {
+          int index = indexes[i];
+          // A short row leaves its missing trailing columns empty
+          decoders[i].decode(target, index < values.length ? values[index] : null);
+        }
+      } catch (UnknownEnumValueException e) {
+        throw e;
+      } catch (NumberFormatException e) {
+        throw new IllegalArgumentException("Error parsing numeric value in column " + names[i], e);
+      } catch (IllegalArgumentException e) {
+        throw new IllegalArgumentException("Error parsing value in column " + names[i], e);
+      }
+      return target;
+    }
+  }
+
+  private static final class BoundWriter<T> implements Function<T, String[]> {
+    private final FieldEncoder<T>[] encoders;
+
+    @SuppressWarnings("unchecked")
+    BoundWriter(List<FieldEncoder<T>> encoders) {
+      this.encoders = (FieldEncoder<T>[]) encoders.toArray(new FieldEncoder<?>[0]);
+    }
+
+    @Override
+    public String[] apply(T source) {
+      if (source == null) {
+        return null;
+      }
+      String[] values = new String[encoders.length];
+      for (int i = 0; i < values.length; i++) {
+        values[i] = encoders[i].encode(source);
+      }
+      return values;
+    }
+  }
+}
@@ -0,0 +1,178 @@
+package com.epam.rd.autocode.assessment.basics.service;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * Case-insensitive lookup of enum constants straight from field characters or bytes.
+ * The constant names are placed in a small table with a hash seed chosen so that no two
+ * names collide, so a lookup is one hash over the value and one comparison, with no
+ * upper-cased copy. Unknown values raise a {@link UnknownEnumValueException}, which has no stack trace.
+ * Enums with constants whose names differ only in case cannot be decoded case-insensitively
+ * and are rejected by {@link #of}.
+ */
+public final class EnumDecoder<E extends Enum<E>> {
+  private static final int MAX_TABLE_SIZE = 1 << 16;
+  private static final ClassValue<EnumDecoder<?>> DECODERS = new ClassValue<>() {
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    protected EnumDecoder<?> computeValue(Class<?> type) {
+      return new EnumDecoder(type);
+    }
+  };
+
+  private final Class<E> type;
+  private final E[] table;
+  private final int mask;
+  private final int seed;
+
+  private EnumDecoder(Class<E> type) {
+    this.type = type;
+    E[] constants = type.getEnumConstants();
+    rejectCaseClashes(type, constants);
+    E[] slots = Arrays.copyOf(constants, Integer.highestOneBit(Math.max(1, constants.length * 2 - 1)) << 1);
+    int maxSlots = Math.max(MAX_TABLE_SIZE, slots.length);
+    int candidate = 31;
+    // Try odd multipliers until every name gets its own slot, widening the table if none fits
+    while (!place(constants, slots, candidate)) {
+      candidate += 2;
+      if (candidate > 2 * 1024) {
+        if (slots.length >= maxSlots) {
+          throw new IllegalArgumentException("No collision-free lookup table for " + type.getName());
+        }
+        candidate = 31;
+        slots = Arrays.copyOf(slots, slots.length * 2);
+      }
+    }
+    this.table = slots;
+    this.mask = slots.length - 1;
+    this.seed = candidate;
+  }
+
+  @SuppressWarnings("unchecked")
+  public static <E extends Enum<E>> EnumDecoder<E> of(Class<E> type) {
+    return (EnumDecoder<E>) DECODERS.get(type);
+  }
+
+  /**
+   * Decodes the trimmed value; {@code null} and blank values give {@code null}.
+   */
+  public E decode(String value) {
+    return value == null ? null : decode(value, 0, value.length());
+  }
+
+  public E decode(CharSequence chars, int start, int end) {
+    while (start < end && chars.charAt(start) <= ' ') {
+      start++;
+    }
+    while (end > start && chars.charAt(end - 1) <= ' ') {
+      end--;
+    }
+    if (start == end) {
+      return null;
+    }
+    E candidate = find(chars, start, end);
+    if (candidate == null) {
+      throw new UnknownEnumValueException(type, chars.subSequence(start, end).toString());
+    }
+    return candidate;
+  }
+
+  /**
+   * Decodes ASCII bytes of the value without building a string. The charset only decodes
+   * an unknown value for the error message.
+   */
+  public E decode(ByteBuffer bytes, int start, int end, Charset charset) {
+    while (start < end && (bytes.get(start) & 0xff) <= ' ') {
+      start++;
+    }
+    while (end > start && (bytes.get(end - 1) & 0xff) <= ' ') {
+      end--;
+    }
+    if (start == end) {
+      return null;
+    }
+    int hash = 0;
+    for (int i = start; i < end; i++) {
+      hash = hash * seed + fold(bytes.get(i) & 0xff);
+    }
+    E candidate = table[spread(hash) & mask];
+    if (candidate != null && candidate.name().length() == end - start) {
+      String name = candidate.name();
+      int i = start;
+      while (i < end && fold(bytes.get(i) & 0xff) == fold(name.charAt(i - start))) {
+        i++;
+      }
+      if (i == end) {
+        return candidate;
+      }
+    }
+    byte[] raw = new byte[end - start];
+    bytes.get(start, raw);
+    throw new UnknownEnumValueException(type, new String(raw, charset));
+  }
+
+  /**
+   * Looks the exact, untrimmed value up and returns {@code null} when it names no constant.
+   */
+  public E find(CharSequence chars, int start, int end) {
+    int hash = 0;
+    for (int i = start; i < end; i++) {
+      hash = hash * seed + fold(chars.charAt(i));
+    }
+    E candidate = table[spread(hash) & mask];
+    return candidate != null && matches(candidate.name(), chars, start, end) ? candidate : null;
+  }
+
+  private static <E extends Enum<E>> void rejectCaseClashes(Class<E> type, E[] constants) {
+    // Names equal after case folding hash alike under every seed, so no table could separate them
+    for (int i = 0; i < constants.length; i++) {
+      String name = constants[i].name();
+      for (int j = i + 1; j < constants.length; j++) {
+        if (matches(name, constants[j].name(), 0, constants[j].name().length())) {
+          throw new IllegalArgumentException("Constants " + name + " and " + constants[j].name() + " of "
+                  + type.getName() + " differ only in case");
+        }
+      }
+    }
+  }
+
+  private static <E extends Enum<E>> boolean place(E[] constants, E[] slots, int candidate) {
+    Arrays.fill(slots, null);
+    int slotMask = slots.length - 1;
+    for (E constant : constants) {
+      String name = constant.name();
+      int hash = 0;
+      for (int i = 0; i < name.length(); i++) {
+        hash = hash * candidate + fold(name.charAt(i));
+      }
+      int slot = spread(hash) & slotMask;
+      if (slots[slot] != null) {
+        return false;
+      }
+      slots[slot] = constant;
+    }
+    return true;
+  }
+
+  private static boolean matches(String name, CharSequence chars, int start, int end) {
+    if (name.length() != end - start) {
+      return false;
+    }
+    for (int i = start; i < end; i++) {
+      if (fold(chars.charAt(i)) != fold(name.charAt(i - start))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static int fold(int c) {
+    return c >= 'a' && c <= 'z' ? c - ('a' - 'A') : c;
+  }
+
+  private static int spread(int hash) {
+    return hash ^ (hash >>> 16);
+  }
+}
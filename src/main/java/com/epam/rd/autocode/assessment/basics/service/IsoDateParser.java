@@ -0,0 +1,169 @@
+package com.epam.rd.autocode.assessment.basics.service;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Parses the {@code yyyy-MM-dd} and {@code yyyy-MM-ddTHH:mm[:ss]} shapes by reading the digits
+ * in place, answering repeated values from a small cache of recent results. Any other shape,
+ * and any value the fast path rejects, goes to {@link LocalDate#parse} or
+ * {@link LocalDateTime#parse}, so results and errors stay exactly those of the JDK parsers.
+ * Safe for concurrent use.
+ */
+public final class IsoDateParser {
+  private static final int CACHE_SIZE = 256;
+  private static final int NOT_A_DIGIT = -1;
+
+  private static final AtomicReferenceArray<LocalDate> DATES = new AtomicReferenceArray<>(CACHE_SIZE);
+  private static final AtomicReferenceArray<LocalDateTime> DATE_TIMES = new AtomicReferenceArray<>(CACHE_SIZE);
+
+  private IsoDateParser() {
+  }
+
+  public static LocalDate parseDate(CharSequence chars, int start, int end) {
+    if (end - start == 10 && chars.charAt(start + 4) == '-' && chars.charAt(start + 7) == '-') {
+      int year = digits(chars, start, 4);
+      int month = digits(chars, start + 5, 2);
+      int day = digits(chars, start + 8, 2);
+      if (year >= 0 && month >= 0 && day >= 0) {
+        LocalDate date = date(year, month, day);
+        if (date != null) {
+          return date;
+        }
+      }
+    }
+    return LocalDate.parse(chars.subSequence(start, end));
+  }
+
+  public static LocalDate parseDate(ByteBuffer bytes, int start, int end) {
+    if (end - start == 10 && bytes.get(start + 4) == '-' && bytes.get(start + 7) == '-') {
+      int year = digits(bytes, start, 4);
+      int month = digits(bytes, start + 5, 2);
+      int day = digits(bytes, start + 8, 2);
+      if (year >= 0 && month >= 0 && day >= 0) {
+        LocalDate date = date(year, month, day);
+        if (date != null) {
+          return date;
+        }
+      }
+    }
+    return LocalDate.parse(ascii(bytes, start, end));
+  }
+
+  public static LocalDateTime parseDateTime(CharSequence chars, int start, int end) {
+    int length = end - start;
+    if ((length == 16 || length == 19 && chars.charAt(start + 16) == ':')
+            && chars.charAt(start + 4) == '-' && chars.charAt(start + 7) == '-'
+            && chars.charAt(start + 10) == 'T' && chars.charAt(start + 13) == ':') {
+      int year = digits(chars, start, 4);
+      int month = digits(chars, start + 5, 2);
+      int day = digits(chars, start + 8, 2);
+      int hour = digits(chars, start + 11, 2);
+      int minute = digits(chars, start + 14, 2);
+      int second = length == 19 ? digits(chars, start + 17, 2) : 0;
+      if ((year | month | day | hour | minute | second) >= 0) {
+        LocalDateTime dateTime = dateTime(year, month, day, hour, minute, second);
+        if (dateTime != null) {
+          return dateTime;
+        }
+      }
+    }
+    return LocalDateTime.parse(chars.subSequence(start, end));
+  }
+
+  public static LocalDateTime parseDateTime(ByteBuffer bytes, int start, int end) {
+    int length = end - start;
+    if ((length == 16 || length == 19 && bytes.get(start + 16) == ':')
+            && bytes.get(start + 4) == '-' && bytes.get(start + 7) == '-'
+            && bytes.get(start + 10) == 'T' && bytes.get(start + 13) == ':') {
+      int year = digits(bytes, start, 4);
+      int month = digits(bytes, start + 5, 2);
+      int day = digits(bytes, start + 8, 2);
+      int hour = digits(bytes, start + 11, 2);
+      int minute = digits(bytes, start + 14, 2);
+      int second = length == 19 ? digits(bytes, start + 17, 2) : 0;
+      if ((year | month | day | hour | minute | second) >= 0) {
+        LocalDateTime dateTime = dateTime(year, month, day, hour, minute, second);
+        if (dateTime != null) {
+          return dateTime;
+        }
+      }
+    }
+    return LocalDateTime.parse(ascii(bytes, start, end));
+  }
+
+  private static LocalDate date(int year, int month, int day) {
+    int key = (year * 100 + month) * 100 + day;
+    int slot = spread(key);
+    LocalDate cached = DATES.get(slot);
+    if (cached != null && cached.getDayOfMonth() == day && cached.getMonthValue() == month
+            && cached.getYear() == year) {
+      return cached;
+    }
+    try {
+      LocalDate date = LocalDate.of(year, month, day);
+      DATES.lazySet(slot, date);
+      return date;
+    } catch (DateTimeException e) {
+      // Out of range fields, left to the JDK parser to report
+      return null;
+    }
+  }
+
+  private static LocalDateTime dateTime(int year, int month, int day, int hour, int minute, int second) {
+    int key = ((((year * 100 + month) * 100 + day) * 100 + hour) * 100 + minute) * 100 + second;
+    int slot = spread(key);
+    LocalDateTime cached = DATE_TIMES.get(slot);
+    if (cached != null && cached.getSecond() == second && cached.getMinute() == minute
+            && cached.getHour() == hour && cached.getDayOfMonth() == day
+            && cached.getMonthValue() == month && cached.getYear() == year && cached.getNano() == 0) {
+      return cached;
+    }
+    LocalDate date = date(year, month, day);
+    if (date == null || hour > 23 || minute > 59 || second > 59) {
+      return null;
+    }
+    LocalDateTime dateTime = date.atTime(hour, minute, second);
+    DATE_TIMES.lazySet(slot, dateTime);
+    return dateTime;
+  }
+
+  private static int spread(int key) {
+    int hash = key * 0x9e3779b9;
+    return (hash ^ (hash >>> 16)) & (CACHE_SIZE - 1);
+  }
+
+  private static int digits(CharSequence chars, int start, int count) {
+    int value = 0;
+    for (int i = start; i < start + count; i++) {
+      int digit = chars.charAt(i) - '0';
+      if (digit < 0 || digit > 9) {
+        return NOT_A_DIGIT;
+      }
+      value = value * 10 + digit;
+    }
+    return value;
+  }
+
+  private static int digits(ByteBuffer bytes, int start, int count) {
+    int value = 0;
+    for (int i = start; i < start + count; i++) {
+      int digit = bytes.get(i) - '0';
+      if (digit < 0 || digit > 9) {
+        return NOT_A_DIGIT;
+      }
+      value = value * 10 + digit;
+    }
+    return value;
+  }
+
+  private static String ascii(ByteBuffer bytes, int start, int end) {
+    byte[] raw = new byte[end - start];
+    bytes.get(start, raw);
+    return new String(raw, StandardCharsets.ISO_8859_1);
+  }
+}
@@ -14,6 +14,27 @@ public interface Mapper {
 
     Order csvToOrder(String[] values);
 
+    /**
+     * Decodes every field with {@link CsvByteRow#getString} and maps the values like
+     * {@link #csvToClient(String[])}. Implementations may override the byte row methods
+     * to parse the bytes in place.
+     */
+    default Client csvToClient(CsvByteRow row) {
+        return csvToClient(values(row));
+    }
+
+    default Employee csvToEmployee(CsvByteRow row) {
+        return csvToEmployee(values(row));
+    }
+
+    default Book csvToBook(CsvByteRow row) {
+        return csvToBook(values(row));
+    }
+
+    default Order csvToOrder(CsvByteRow row) {
+        return csvToOrder(values(row));
+    }
+
     String[] orderToCsv(Order order);
 
     String[] bookToCsv(Book book);
@@ -21,4 +42,15 @@ public interface Mapper {
     String[] clientToCsv(Client client);
 
     String[] employeeToCsv(Employee employee);
+
+    private static String[] values(CsvByteRow row) {
+        if (row == null) {
+            return null;
+        }
+        String[] values = new String[row.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = row.getString(i);
+        }
+        return values;
+    }
 }
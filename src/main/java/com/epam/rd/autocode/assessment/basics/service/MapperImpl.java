@@ -12,6 +12,14 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeParseException;
 
+import static com.epam.rd.autocode.assessment.basics.service.CsvValues.parseBigDecimal;
+import static com.epam.rd.autocode.assessment.basics.service.CsvValues.parseDate;
+import static com.epam.rd.autocode.assessment.basics.service.CsvValues.parseDateTime;
+import static com.epam.rd.autocode.assessment.basics.service.CsvValues.parseEnum;
+import static com.epam.rd.autocode.assessment.basics.service.CsvValues.parseInt;
+import static com.epam.rd.autocode.assessment.basics.service.CsvValues.parseLong;
+import static com.epam.rd.autocode.assessment.basics.service.CsvValues.parseString;
+
 public class MapperImpl implements Mapper{
   @Override
   public Client csvToClient(String[] values) {
@@ -93,6 +101,9 @@ public class MapperImpl implements Mapper{
       throw new IllegalArgumentException("Error parsing numeric value", e);
     } catch (DateTimeParseException e) {
       throw new IllegalArgumentException("Error parsing date value", e);
+    } catch (UnknownEnumValueException e) {
+      // Already an IllegalArgumentException, rethrown as is to keep the failure path cheap
+      throw e;
     } catch (IllegalArgumentException e) {
       throw new IllegalArgumentException("Error parsing enum value", e);
     }
@@ -124,6 +135,100 @@ public class MapperImpl implements Mapper{
     }
   }
 
+  @Override
+  public Client csvToClient(CsvByteRow row) {
+    if (row == null || row.size() == 0) {
+      return null;
+    }
+
+    try {
+      long id = row.getLong(0);
+      String email = parseString(row.getString(1));
+      String password = parseString(row.getString(2));
+      String name = parseString(row.getString(3));
+      BigDecimal balance = row.size() == 5 ? row.getDecimal(4) : null;
+
+      return new Client(id, email, password, name, balance);
+
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("Error parsing numeric value", e);
+    }
+  }
+
+  @Override
+  public Employee csvToEmployee(CsvByteRow row) {
+    if (row == null || row.size() == 0) {
+      return null;
+    }
+
+    try {
+      long id = row.getLong(0);
+      String email = parseString(row.getString(1));
+      String password = parseString(row.getString(2));
+      String name = parseString(row.getString(3));
+      String phone = parseString(row.getString(4));
+      LocalDate birthDate = row.size() == 6 ? row.getDate(5) : null;
+
+      return new Employee(id, email, password, name, phone, birthDate);
+
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("Error parsing numeric value", e);
+    }
+  }
+
+  @Override
+  public Book csvToBook(CsvByteRow row) {
+    if (row == null || row.size() == 0) {
+      return null;
+    }
+
+    try {
+      long id = row.getLong(0);
+      String name = parseString(row.getString(1));
+      String genre = parseString(row.getString(2));
+      AgeGroup ageGroup = row.getEnum(AgeGroup.class, 3);
+      BigDecimal price = row.getDecimal(4);
+      LocalDate publicationDate = row.getDate(5);
+      String author = parseString(row.getString(6));
+      int numberOfPages = row.getInt(7);
+      String characteristics = parseString(row.getString(8));
+      String description = parseString(row.getString(9));
+      Language language = row.size() == 11 ? row.getEnum(Language.class, 10) : null;
+
+      return new Book(id, name, genre, ageGroup, price, publicationDate, author, numberOfPages, characteristics, description, language);
+
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("Error parsing numeric value", e);
+    } catch (UnknownEnumValueException e) {
+      // Already an IllegalArgumentException, rethrown as is to keep the failure path cheap
+      throw e;
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("Error parsing enum value", e);
+    }
+  }
+
+  @Override
+  public Order csvToOrder(CsvByteRow row) {
+    if (row == null || row.size() == 0) {
+      return null;
+    }
+
+    try {
+      long id = row.getLong(0);
+      long clientId = row.getLong(1);
+      long employeeId = row.getLong(2);
+      long bookId = row.getLong(3);
+      int numberOfBooks = row.getInt(4);
+      LocalDateTime orderDate = row.getDateTime(5);
+      BigDecimal price = row.getDecimal(6);
+
+      return new Order(id, clientId, employeeId, bookId, numberOfBooks, orderDate, price);
+
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("Error parsing numeric value", e);
+    }
+  }
+
   @Override
   public String[] orderToCsv(Order order) {
     if (order == null) {
@@ -225,46 +330,4 @@ public class MapperImpl implements Mapper{
 
     return csvFields;
   }
-  private long parseLong(String value) {
-    return value == null || value.trim().isEmpty() || value.trim().equals("''") ? 0 : Long.parseLong(value.trim());
-  }
-
-  private int parseInt(String value) {
-    return value == null || value.trim().isEmpty() || value.trim().equals("''") ? 0 : Integer.parseInt(value.trim());
-  }
-
-  private BigDecimal parseBigDecimal(String value) {
-    return value == null || value.trim().isEmpty() || value.trim().equals("''") ? null : new BigDecimal(value.trim());
-  }
-
-  private String parseString(String value) {
-    if (value == null || value.isEmpty()) return null;
-    value = (value.equals("\"\"") || value.equals("\'\'") ? "" : value.trim());
-
-    return value;
-  }
-
-  private <E extends Enum<E>> E parseEnum(Class<E> enumType, String value) {
-    if (value == null || value.trim().isEmpty()) return null;
-    return Enum.valueOf(enumType, value.trim().toUpperCase());
-  }
-
-  private LocalDate parseDate(String value) {
-    if (value == null || value.trim().isEmpty()) return null;
-    try {
-      return LocalDate.parse(value.trim());
-    } catch (DateTimeParseException e) {
-      throw new IllegalArgumentException("Invalid date format", e);
-    }
-  }
-
-  private LocalDateTime parseDateTime(String value) {
-    if (value == null || value.trim().isEmpty() || value.trim().equals("''")) return null;
-    try {
-      return LocalDateTime.parse(value.trim());
-    } catch (DateTimeParseException e) {
-      throw new IllegalArgumentException("Invalid DateTime format", e);
-    }
-  }
-
 }
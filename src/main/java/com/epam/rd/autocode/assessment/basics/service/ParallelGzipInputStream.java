@@ -0,0 +1,210 @@
+package com.epam.rd.autocode.assessment.basics.service;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+import static com.epam.rd.autocode.assessment.basics.service.ParallelGzipOutputStream.HEADER_SIZE;
+import static com.epam.rd.autocode.assessment.basics.service.ParallelGzipOutputStream.MAX_BLOCK_SIZE;
+import static com.epam.rd.autocode.assessment.basics.service.ParallelGzipOutputStream.SUBFIELD_ID1;
+import static com.epam.rd.autocode.assessment.basics.service.ParallelGzipOutputStream.SUBFIELD_ID2;
+import static com.epam.rd.autocode.assessment.basics.service.ParallelGzipOutputStream.TRAILER_SIZE;
+
+/**
+ * Decompresses gzip input. Members written by {@link ParallelGzipOutputStream} are read ahead
+ * by their recorded length and inflated on several threads, then returned in order. From the
+ * first member without that length field on, the rest of the input is read by a plain
+ * {@link GZIPInputStream}, so gzip files from any other source decompress as usual.
+ * Bytes after the last member that do not start another gzip member are ignored.
+ * Closing the stream closes the source.
+ */
+public final class ParallelGzipInputStream extends InputStream {
+  private static final int MAX_MEMBER_SIZE = ParallelGzipOutputStream.maxMemberSize(MAX_BLOCK_SIZE);
+
+  private final PushbackInputStream in;
+  private final ExecutorService executor;
+  private final int parallelism;
+  private final Deque<Future<byte[]>> pending = new ArrayDeque<>();
+  private byte[] block = new byte[0];
+  private int position;
+  private boolean sourceDone;
+  private boolean foreignMember;
+  private boolean membersRead;
+  private InputStream fallback;
+  private boolean closed;
+
+  public ParallelGzipInputStream(InputStream in, int parallelism) {
+    if (parallelism < 1) {
+      throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+    }
+    this.in = new PushbackInputStream(in, HEADER_SIZE);
+    this.parallelism = parallelism;
+    this.executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+      Thread thread = new Thread(runnable, "parallel-gzip-reader");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  @Override
+  public int read() throws IOException {
+    byte[] one = new byte[1];
+    int read = read(one, 0, 1);
+    return read < 0 ? -1 : one[0] & 0xff;
+  }
+
+  @Override
+  public int read(byte[] bytes, int offset, int count) throws IOException {
+    if (closed) {
+      throw new IOException("Stream is closed");
+    }
+    if (count == 0) {
+      return 0;
+    }
+    while (position == block.length) {
+      if (fallback != null) {
+        return fallback.read(bytes, offset, count);
+      }
+      if (!nextBlock()) {
+        return -1;
+      }
+    }
+    int copied = Math.min(count, block.length - position);
+    System.arraycopy(block, position, bytes, offset, copied);
+    position += copied;
+    return copied;
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    executor.shutdownNow();
+    if (fallback != null) {
+      fallback.close();
+    } else {
+      in.close();
+    }
+  }
+
+  private boolean nextBlock() throws IOException {
+    // Keep a few members per thread in flight
+    while (!sourceDone && !foreignMember && pending.size() < parallelism * 2) {
+      readMember();
+    }
+    if (pending.isEmpty()) {
+      if (foreignMember) {
+        fallback = new GZIPInputStream(in);
+        return true;
+      }
+      return false;
+    }
+    try {
+      block = pending.remove().get();
+      position = 0;
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while decompressing", e);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      throw cause instanceof IOException ? (IOException) cause : new IOException(cause);
+    }
+  }
+
+  private void readMember() throws IOException {
+    byte[] header = new byte[HEADER_SIZE];
+    int read = in.readNBytes(header, 0, HEADER_SIZE);
+    if (read == 0 && membersRead) {
+      sourceDone = true;
+      return;
+    }
+    if (read < HEADER_SIZE || !isBlockHeader(header)) {
+      if (membersRead && (read < 2 || header[0] != 0x1f || header[1] != (byte) 0x8b)) {
+        // Padding or garbage after the last member ends the input, as it does for GZIPInputStream
+        sourceDone = true;
+        return;
+      }
+      in.unread(header, 0, read);
+      foreignMember = true;
+      return;
+    }
+    int memberSize = getInt(header, 16);
+    // The length comes from the input, so it must not size the buffer beyond what the writer can produce
+    if (memberSize < HEADER_SIZE + TRAILER_SIZE || memberSize > MAX_MEMBER_SIZE) {
+      throw new ZipException("Invalid gzip block length: " + memberSize);
+    }
+    byte[] member = new byte[memberSize];
+    System.arraycopy(header, 0, member, 0, HEADER_SIZE);
+    if (in.readNBytes(member, HEADER_SIZE, memberSize - HEADER_SIZE) != memberSize - HEADER_SIZE) {
+      throw new EOFException("Unexpected end of gzip block");
+    }
+    membersRead = true;
+    pending.add(executor.submit(() -> inflate(member)));
+  }
+
+  private static boolean isBlockHeader(byte[] header) {
+    return header[0] == 0x1f && header[1] == (byte) 0x8b && header[2] == 8 && header[3] == 4
+            && getShort(header, 10) == 8 && header[12] == SUBFIELD_ID1 && header[13] == SUBFIELD_ID2
+            && getShort(header, 14) == 4;
+  }
+
+  static byte[] inflate(byte[] member) throws ZipException {
+    int end = member.length - TRAILER_SIZE;
+    int size = getInt(member, end + 4);
+    if (size < 0 || size > MAX_BLOCK_SIZE) {
+      throw new ZipException("Invalid gzip block size: " + Integer.toUnsignedString(size));
+    }
+    byte[] data = new byte[size];
+    Inflater inflater = new Inflater(true);
+    try {
+      inflater.setInput(member, HEADER_SIZE, end - HEADER_SIZE);
+      int length = 0;
+      while (!inflater.finished()) {
+        int inflated = inflater.inflate(data, length, size - length);
+        if (inflated == 0 && !inflater.finished()) {
+          // A full buffer is fine only if the deflate stream ends right there
+          if (length < size || inflater.inflate(new byte[1]) != 0 || !inflater.finished()) {
+            throw new ZipException("Corrupt gzip block");
+          }
+        }
+        length += inflated;
+      }
+      if (length != size || inflater.getRemaining() != 0) {
+        throw new ZipException("Corrupt gzip block");
+      }
+    } catch (DataFormatException e) {
+      throw new ZipException(e.getMessage() == null ? "Invalid gzip block data" : e.getMessage());
+    } finally {
+      inflater.end();
+    }
+    CRC32 crc = new CRC32();
+    crc.update(data);
+    if ((int) crc.getValue() != getInt(member, end)) {
+      throw new ZipException("Corrupt GZIP trailer");
+    }
+    return data;
+  }
+
+  private static int getShort(byte[] bytes, int offset) {
+    return (bytes[offset] & 0xff) | (bytes[offset + 1] & 0xff) << 8;
+  }
+
+  private static int getInt(byte[] bytes, int offset) {
+    return getShort(bytes, offset) | getShort(bytes, offset + 2) << 16;
+  }
+}
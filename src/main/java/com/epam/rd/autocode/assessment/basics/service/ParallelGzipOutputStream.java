@@ -0,0 +1,212 @@
+package com.epam.rd.autocode.assessment.basics.service;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Writes gzip output as a series of independent members, one per block of input, compressed
+ * on several threads and written in input order. Any gzip reader decompresses the result as
+ * one stream, since concatenated members are part of the format. Each member header carries
+ * an extra field with the member's compressed length, which lets {@link ParallelGzipInputStream}
+ * find the member bounds without inflating and decompress the blocks in parallel too.
+ * <p>
+ * Blocks are compressed without a shared dictionary, which costs a little compression ratio.
+ * Closing the stream closes the destination.
+ */
+public final class ParallelGzipOutputStream extends FilterOutputStream {
+  public static final int DEFAULT_BLOCK_SIZE = 1 << 20;
+  public static final int MAX_BLOCK_SIZE = 1 << 24;
+
+  static final int HEADER_SIZE = 20;
+  static final int TRAILER_SIZE = 8;
+  static final byte SUBFIELD_ID1 = 'B';
+  static final byte SUBFIELD_ID2 = 'S';
+
+  private final ExecutorService executor;
+  private final int parallelism;
+  private final int level;
+  private final Deque<Future<byte[]>> pending = new ArrayDeque<>();
+  private byte[] block;
+  private int length;
+  private boolean written;
+  private boolean closed;
+
+  public ParallelGzipOutputStream(OutputStream out, int parallelism) {
+    this(out, parallelism, DEFAULT_BLOCK_SIZE, Deflater.DEFAULT_COMPRESSION);
+  }
+
+  public ParallelGzipOutputStream(OutputStream out, int parallelism, int blockSize, int level) {
+    super(out);
+    if (parallelism < 1) {
+      throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+    }
+    if (blockSize < 1 || blockSize > MAX_BLOCK_SIZE) {
+      throw new IllegalArgumentException("Block size out of range: " + blockSize);
+    }
+    if ((level < 0 || level > 9) && level != Deflater.DEFAULT_COMPRESSION) {
+      throw new IllegalArgumentException("Invalid compression level: " + level);
+    }
+    this.parallelism = parallelism;
+    this.level = level;
+    this.block = new byte[blockSize];
+    this.executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+      Thread thread = new Thread(runnable, "parallel-gzip-writer");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  @Override
+  public void write(int b) throws IOException {
+    ensureOpen();
+    block[length++] = (byte) b;
+    if (length == block.length) {
+      submitBlock();
+    }
+  }
+
+  @Override
+  public void write(byte[] bytes, int offset, int count) throws IOException {
+    ensureOpen();
+    while (count > 0) {
+      int copied = Math.min(count, block.length - length);
+      System.arraycopy(bytes, offset, block, length, copied);
+      length += copied;
+      offset += copied;
+      count -= copied;
+      if (length == block.length) {
+        submitBlock();
+      }
+    }
+  }
+
+  /**
+   * Ends the current block as a member of its own and writes every pending member.
+   */
+  @Override
+  public void flush() throws IOException {
+    ensureOpen();
+    if (length > 0) {
+      submitBlock();
+    }
+    while (!pending.isEmpty()) {
+      writeMember();
+    }
+    out.flush();
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    try {
+      // An empty input still needs one member to be a valid gzip file
+      if (length > 0 || !written && pending.isEmpty()) {
+        submitBlock();
+      }
+      while (!pending.isEmpty()) {
+        writeMember();
+      }
+      out.flush();
+    } finally {
+      closed = true;
+      executor.shutdownNow();
+      out.close();
+    }
+  }
+
+  private void ensureOpen() throws IOException {
+    if (closed) {
+      throw new IOException("Stream is closed");
+    }
+  }
+
+  private void submitBlock() throws IOException {
+    byte[] data = block;
+    int size = length;
+    pending.add(executor.submit(() -> compress(data, size, level)));
+    block = new byte[block.length];
+    length = 0;
+    // Bound the blocks held in memory to a few per thread
+    while (pending.size() > parallelism * 2) {
+      writeMember();
+    }
+  }
+
+  private void writeMember() throws IOException {
+    Future<byte[]> member = pending.remove();
+    try {
+      out.write(member.get());
+      written = true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while compressing", e);
+    } catch (ExecutionException e) {
+      throw new IOException("Block compression failed", e.getCause());
+    }
+  }
+
+  static byte[] compress(byte[] data, int size, int level) {
+    Deflater deflater = new Deflater(level, true);
+    try {
+      deflater.setInput(data, 0, size);
+      deflater.finish();
+      byte[] member = new byte[maxMemberSize(size)];
+      int end = HEADER_SIZE;
+      while (!deflater.finished()) {
+        if (end == member.length - TRAILER_SIZE) {
+          member = Arrays.copyOf(member, member.length * 2);
+        }
+        end += deflater.deflate(member, end, member.length - TRAILER_SIZE - end);
+      }
+      CRC32 crc = new CRC32();
+      crc.update(data, 0, size);
+      int memberSize = end + TRAILER_SIZE;
+      member = Arrays.copyOf(member, memberSize);
+      member[0] = 0x1f;
+      member[1] = (byte) 0x8b;
+      member[2] = 8;
+      // FLG.FEXTRA; MTIME, XFL stay zero, OS is unknown
+      member[3] = 4;
+      member[9] = (byte) 255;
+      putShort(member, 10, 8);
+      member[12] = SUBFIELD_ID1;
+      member[13] = SUBFIELD_ID2;
+      putShort(member, 14, 4);
+      putInt(member, 16, memberSize);
+      putInt(member, end, (int) crc.getValue());
+      putInt(member, end + 4, size);
+      return member;
+    } finally {
+      deflater.end();
+    }
+  }
+
+  /**
+   * An upper bound of the member length for a block of the given size, stored blocks included.
+   */
+  static int maxMemberSize(int blockSize) {
+    return HEADER_SIZE + blockSize + (blockSize >> 8) + 64 + TRAILER_SIZE;
+  }
+
+  private static void putShort(byte[] bytes, int offset, int value) {
+    bytes[offset] = (byte) value;
+    bytes[offset + 1] = (byte) (value >>> 8);
+  }
+
+  private static void putInt(byte[] bytes, int offset, int value) {
+    putShort(bytes, offset, value);
+    putShort(bytes, offset + 2, value >>> 16);
+  }
+}
@@ -0,0 +1,88 @@
+package com.epam.rd.autocode.assessment.basics.service;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded, lossy intern table for repeated field values. Values are hashed straight from the
+ * characters of the line, so a hit returns the cached instance without creating a string.
+ * Each hash slot holds one value and a colliding value replaces it, which keeps the table at a
+ * fixed size however many distinct values pass through. Safe for concurrent use.
+ */
+public final class StringDictionary {
+  private final AtomicReferenceArray<String> slots;
+  private final int mask;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder savedChars = new LongAdder();
+
+  public StringDictionary(int capacity) {
+    if (capacity < 1 || capacity > 1 << 30) {
+      throw new IllegalArgumentException("Capacity out of range: " + capacity);
+    }
+    int size = Integer.highestOneBit(capacity);
+    if (size < capacity) {
+      size <<= 1;
+    }
+    this.slots = new AtomicReferenceArray<>(size);
+    this.mask = size - 1;
+  }
+
+  public String intern(CharSequence chars, int start, int end) {
+    int hash = 0;
+    for (int i = start; i < end; i++) {
+      hash = 31 * hash + chars.charAt(i);
+    }
+    int slot = (hash ^ (hash >>> 16)) & mask;
+    String cached = slots.get(slot);
+    if (cached != null && matches(cached, chars, start, end)) {
+      hits.increment();
+      savedChars.add(end - start);
+      return cached;
+    }
+    String value = chars.subSequence(start, end).toString();
+    slots.lazySet(slot, value);
+    misses.increment();
+    return value;
+  }
+
+  public long hits() {
+    return hits.sum();
+  }
+
+  public long misses() {
+    return misses.sum();
+  }
+
+  public double hitRate() {
+    long hit = hits.sum();
+    long total = hit + misses.sum();
+    return total == 0 ? 0 : (double) hit / total;
+  }
+
+  /**
+   * Characters of the lookups answered from the table, i.e. string content that was not duplicated.
+   */
+  public long savedChars() {
+    return savedChars.sum();
+  }
+
+  @Override
+  public String toString() {
+    return String.format(Locale.ROOT, "StringDictionary[hits=%d, misses=%d, hitRate=%.3f, savedChars=%d]",
+            hits(), misses(), hitRate(), savedChars());
+  }
+
+  private static boolean matches(String cached, CharSequence chars, int start, int end) {
+    if (cached.length() != end - start) {
+      return false;
+    }
+    for (int i = start; i < end; i++) {
+      if (cached.charAt(i - start) != chars.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -0,0 +1,33 @@
+package com.epam.rd.autocode.assessment.basics.service;
+
+/**
+ * Thrown by {@link EnumDecoder} for a value that names no constant. Dirty input can make this
+ * frequent, so the exception records no stack trace and builds its message only when asked.
+ */
+public class UnknownEnumValueException extends IllegalArgumentException {
+  private final Class<?> enumType;
+  private final String value;
+
+  public UnknownEnumValueException(Class<?> enumType, String value) {
+    this.enumType = enumType;
+    this.value = value;
+  }
+
+  public Class<?> getEnumType() {
+    return enumType;
+  }
+
+  public String getValue() {
+    return value;
+  }
+
+  @Override
+  public String getMessage() {
+    return "Unknown " + enumType.getSimpleName() + " value: '" + value + "'";
+  }
+
+  @Override
+  public synchronized Throwable fillInStackTrace() {
+    return this;
+  }
+}
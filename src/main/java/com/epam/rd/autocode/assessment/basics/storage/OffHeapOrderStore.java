@@ -0,0 +1,293 @@
+package com.epam.rd.autocode.assessment.basics.storage;
+
+import com.epam.rd.autocode.assessment.basics.entity.Money;
+import com.epam.rd.autocode.assessment.basics.entity.Order;
+import com.epam.rd.autocode.assessment.basics.service.CsvRow;
+import com.epam.rd.autocode.assessment.basics.service.CsvStorage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+/**
+ * Orders kept outside the Java heap, one column per field. Each column is a list of direct
+ * buffers of {@value #SEGMENT_ROWS} values in native byte order, so a row costs 52 bytes of
+ * native memory and no heap objects, and a scan over one column reads nothing but that column.
+ * Order dates are held as UTC epoch seconds and prices as minor units of a fixed scale;
+ * {@link #NULL} stands for a missing date or price.
+ * <p>
+ * The first segment starts small and doubles up to the full segment size, so a small store
+ * only takes the memory it needs.
+ * <p>
+ * Appends are not thread-safe; once loaded, the store may be read from several threads.
+ * Closing the store drops its buffers, and their native memory is released once they are
+ * collected.
+ */
+public final class OffHeapOrderStore implements AutoCloseable {
+  public static final long NULL = Long.MIN_VALUE;
+
+  private static final int SEGMENT_SHIFT = 20;
+  private static final int SEGMENT_ROWS = 1 << SEGMENT_SHIFT;
+  private static final int SEGMENT_MASK = SEGMENT_ROWS - 1;
+  private static final int INITIAL_ROWS = 1 << 12;
+
+  private final int priceScale;
+  private ByteBuffer[] ids = new ByteBuffer[0];
+  private ByteBuffer[] clientIds = new ByteBuffer[0];
+  private ByteBuffer[] employeeIds = new ByteBuffer[0];
+  private ByteBuffer[] bookIds = new ByteBuffer[0];
+  private ByteBuffer[] numberOfBooks = new ByteBuffer[0];
+  private ByteBuffer[] orderDates = new ByteBuffer[0];
+  private ByteBuffer[] prices = new ByteBuffer[0];
+  private long size;
+  private boolean closed;
+
+  /**
+   * @param priceScale the number of fraction digits prices are kept with
+   */
+  public OffHeapOrderStore(int priceScale) {
+    if (priceScale < 0 || priceScale > Money.MAX_SCALE) {
+      throw new IllegalArgumentException("Scale out of range: " + priceScale);
+    }
+    this.priceScale = priceScale;
+  }
+
+  /**
+   * Loads an orders csv source, with its columns in the {@code Order} field order,
+   * straight from the parsed rows without creating {@code Order} instances.
+   */
+  public static OffHeapOrderStore load(CsvStorage storage, InputStream source, int priceScale) throws IOException {
+    OffHeapOrderStore store = new OffHeapOrderStore(priceScale);
+    storage.readRows(source, store::append);
+    return store;
+  }
+
+  public void append(CsvRow row) {
+    if (row.size() == 1 && row.isEmpty(0)) {
+      return;
+    }
+    // A short row leaves its missing trailing columns empty
+    LocalDateTime date = isEmpty(row, 5) ? null : row.getDateTime(5);
+    append(getLong(row, 0), getLong(row, 1), getLong(row, 2), getLong(row, 3), getInt(row, 4),
+            epochSecond(date), isEmpty(row, 6) ? NULL : row.getMinorUnits(6, priceScale));
+  }
+
+  /**
+   * @throws ArithmeticException if the price has more fraction digits than the store's scale
+   */
+  public void append(Order order) {
+    BigDecimal price = order.getPrice();
+    append(order.getId(), order.getClientId(), order.getEmployeeId(), order.getBookId(),
+            order.getNumberOfBooks(), epochSecond(order.getOrderDate()),
+            price == null ? NULL : Money.toMinor(price, priceScale));
+  }
+
+  public long size() {
+    return size;
+  }
+
+  public int getPriceScale() {
+    return priceScale;
+  }
+
+  public Order get(long row) {
+    checkRow(row);
+    long date = getOrderEpochSecond(row);
+    long price = getPriceMinorUnits(row);
+    return new Order(getId(row), getClientId(row), getEmployeeId(row), getBookId(row), getNumberOfBooks(row),
+            date == NULL ? null : LocalDateTime.ofEpochSecond(date, 0, ZoneOffset.UTC),
+            price == NULL ? null : BigDecimal.valueOf(price, priceScale));
+  }
+
+  public long getId(long row) {
+    return getLong(ids, row);
+  }
+
+  public long getClientId(long row) {
+    return getLong(clientIds, row);
+  }
+
+  public long getEmployeeId(long row) {
+    return getLong(employeeIds, row);
+  }
+
+  public long getBookId(long row) {
+    return getLong(bookIds, row);
+  }
+
+  public int getNumberOfBooks(long row) {
+    checkRow(row);
+    return numberOfBooks[(int) (row >>> SEGMENT_SHIFT)].getInt(((int) row & SEGMENT_MASK) << 2);
+  }
+
+  /**
+   * The order date as UTC epoch seconds, or {@link #NULL}.
+   */
+  public long getOrderEpochSecond(long row) {
+    return getLong(orderDates, row);
+  }
+
+  /**
+   * The price in minor units of {@link #getPriceScale()}, or {@link #NULL}.
+   */
+  public long getPriceMinorUnits(long row) {
+    return getLong(prices, row);
+  }
+
+  /**
+   * Sums the number of books of all orders, one column segment at a time.
+   */
+  public long sumNumberOfBooks() {
+    ensureOpen();
+    long sum = 0;
+    for (int s = 0; s < numberOfBooks.length; s++) {
+      ByteBuffer segment = numberOfBooks[s];
+      int rows = rowsIn(s);
+      for (int i = 0; i < rows; i++) {
+        sum += segment.getInt(i << 2);
+      }
+    }
+    return sum;
+  }
+
+  /**
+   * Sums the prices of all orders that have one, in minor units.
+   */
+  public long sumPriceMinorUnits() {
+    ensureOpen();
+    long sum = 0;
+    for (int s = 0; s < prices.length; s++) {
+      ByteBuffer segment = prices[s];
+      int rows = rowsIn(s);
+      for (int i = 0; i < rows; i++) {
+        long price = segment.getLong(i << 3);
+        if (price != NULL) {
+          sum = Math.addExact(sum, price);
+        }
+      }
+    }
+    return sum;
+  }
+
+  /**
+   * Drops the column buffers. The store cannot be used afterwards.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    size = 0;
+    ids = new ByteBuffer[0];
+    clientIds = new ByteBuffer[0];
+    employeeIds = new ByteBuffer[0];
+    bookIds = new ByteBuffer[0];
+    numberOfBooks = new ByteBuffer[0];
+    orderDates = new ByteBuffer[0];
+    prices = new ByteBuffer[0];
+  }
+
+  private void append(long id, long clientId, long employeeId, long bookId, int books,
+                      long orderDate, long price) {
+    ensureOpen();
+    int segment = (int) (size >>> SEGMENT_SHIFT);
+    int index = (int) size & SEGMENT_MASK;
+    if (segment == ids.length) {
+      addSegment(segment == 0 ? INITIAL_ROWS : SEGMENT_ROWS);
+    } else if (index << 3 == ids[segment].capacity()) {
+      growSegment(segment, index * 2);
+    }
+    int longOffset = index << 3;
+    ids[segment].putLong(longOffset, id);
+    clientIds[segment].putLong(longOffset, clientId);
+    employeeIds[segment].putLong(longOffset, employeeId);
+    bookIds[segment].putLong(longOffset, bookId);
+    numberOfBooks[segment].putInt(index << 2, books);
+    orderDates[segment].putLong(longOffset, orderDate);
+    prices[segment].putLong(longOffset, price);
+    size++;
+  }
+
+  private void addSegment(int rows) {
+    ids = addSegment(ids, rows, Long.BYTES);
+    clientIds = addSegment(clientIds, rows, Long.BYTES);
+    employeeIds = addSegment(employeeIds, rows, Long.BYTES);
+    bookIds = addSegment(bookIds, rows, Long.BYTES);
+    numberOfBooks = addSegment(numberOfBooks, rows, Integer.BYTES);
+    orderDates = addSegment(orderDates, rows, Long.BYTES);
+    prices = addSegment(prices, rows, Long.BYTES);
+  }
+
+  private static ByteBuffer[] addSegment(ByteBuffer[] column, int rows, int width) {
+    ByteBuffer[] grown = Arrays.copyOf(column, column.length + 1);
+    grown[column.length] = allocate(rows, width);
+    return grown;
+  }
+
+  private void growSegment(int segment, int rows) {
+    growSegment(ids, segment, rows, Long.BYTES);
+    growSegment(clientIds, segment, rows, Long.BYTES);
+    growSegment(employeeIds, segment, rows, Long.BYTES);
+    growSegment(bookIds, segment, rows, Long.BYTES);
+    growSegment(numberOfBooks, segment, rows, Integer.BYTES);
+    growSegment(orderDates, segment, rows, Long.BYTES);
+    growSegment(prices, segment, rows, Long.BYTES);
+  }
+
+  private static void growSegment(ByteBuffer[] column, int segment, int rows, int width) {
+    ByteBuffer grown = allocate(rows, width);
+    grown.put(0, column[segment], 0, column[segment].capacity());
+    column[segment] = grown;
+  }
+
+  private static ByteBuffer allocate(int rows, int width) {
+    return ByteBuffer.allocateDirect(rows * width).order(ByteOrder.nativeOrder());
+  }
+
+  private int rowsIn(int segment) {
+    return (int) Math.min(SEGMENT_ROWS, size - ((long) segment << SEGMENT_SHIFT));
+  }
+
+  private long getLong(ByteBuffer[] column, long row) {
+    checkRow(row);
+    return column[(int) (row >>> SEGMENT_SHIFT)].getLong(((int) row & SEGMENT_MASK) << 3);
+  }
+
+  private void ensureOpen() {
+    if (closed) {
+      throw new IllegalStateException("Store is closed");
+    }
+  }
+
+  private void checkRow(long row) {
+    ensureOpen();
+    if (row < 0 || row >= size) {
+      throw new IndexOutOfBoundsException("Row " + row + " of " + size);
+    }
+  }
+
+  private static boolean isEmpty(CsvRow row, int index) {
+    return index >= row.size() || row.isEmpty(index);
+  }
+
+  private static long getLong(CsvRow row, int index) {
+    return index < row.size() ? row.getLong(index) : 0;
+  }
+
+  private static int getInt(CsvRow row, int index) {
+    return index < row.size() ? row.getInt(index) : 0;
+  }
+
+  private static long epochSecond(LocalDateTime date) {
+    if (date == null) {
+      return NULL;
+    }
+    if (date.getNano() != 0) {
+      throw new IllegalArgumentException("Order date has fractional seconds: " + date);
+    }
+    return date.toEpochSecond(ZoneOffset.UTC);
+  }
+}
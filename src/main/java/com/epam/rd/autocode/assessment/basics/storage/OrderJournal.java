@@ -0,0 +1,338 @@
+package com.epam.rd.autocode.assessment.basics.storage;
+
+import com.epam.rd.autocode.assessment.basics.entity.Order;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * An append-only, crash-safe log of orders. Every record is framed as
+ * {@code [payload length][CRC32 of payload][payload]}, so opening the journal can find the
+ * end of the last complete record and cut off a tail torn by a crash.
+ * <p>
+ * {@link #append(Order)} returns once the record is on disk. Concurrent appenders share
+ * fsyncs: one of them forces the channel for everything written so far while the others wait,
+ * optionally after holding the commit window open to let more appenders join.
+ */
+public final class OrderJournal implements Closeable {
+  private static final int MAGIC = 0x4f4a524e;
+  private static final int VERSION = 1;
+  private static final int HEADER_SIZE = 8;
+  private static final int FRAME_SIZE = 8;
+  private static final int MAX_PAYLOAD = 1024;
+
+  private static final int HAS_DATE = 1;
+  private static final int HAS_PRICE = 2;
+
+  private final FileChannel channel;
+  private final long commitWindowNanos;
+  private final long truncatedBytes;
+  private final Object syncLock = new Object();
+
+  private long position;
+  private long durable;
+  private boolean syncing;
+  private boolean closed;
+
+  private OrderJournal(FileChannel channel, long commitWindowNanos) throws IOException {
+    this.channel = channel;
+    this.commitWindowNanos = commitWindowNanos;
+    long size = channel.size();
+    if (size < HEADER_SIZE) {
+      // A new file, or one whose creation was cut short before the header was complete
+      channel.truncate(0);
+      ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).putInt(VERSION).flip();
+      writeFully(header, 0);
+      channel.force(true);
+      size = HEADER_SIZE;
+    } else {
+      checkHeader();
+    }
+    long end = recover(size);
+    if (end < size) {
+      channel.truncate(end);
+      channel.force(true);
+    }
+    this.truncatedBytes = size - end;
+    this.position = end;
+    this.durable = end;
+  }
+
+  /**
+   * Opens or creates the journal, dropping an incomplete or corrupt tail.
+   *
+   * @param commitWindow how long the syncing appender waits for others to join its fsync,
+   *                     zero to sync immediately
+   */
+  public static OrderJournal open(Path file, Duration commitWindow) throws IOException {
+    if (commitWindow.isNegative()) {
+      throw new IllegalArgumentException("Commit window must not be negative");
+    }
+    FileChannel channel = FileChannel.open(file,
+            StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    try {
+      return new OrderJournal(channel, commitWindow.toNanos());
+    } catch (IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  /**
+   * Appends the order and waits until it is durable.
+   *
+   * @return the offset of the record, usable with {@link #read(long)}
+   */
+  public long append(Order order) throws IOException {
+    long offset = write(order);
+    sync();
+    return offset;
+  }
+
+  /**
+   * Appends the order without waiting for it to reach the disk; see {@link #sync()}.
+   */
+  public long write(Order order) throws IOException {
+    ByteBuffer record = encode(order);
+    synchronized (this) {
+      ensureOpen();
+      long offset = position;
+      writeFully(record, offset);
+      position = offset + record.limit();
+      return offset;
+    }
+  }
+
+  /**
+   * Makes every record written before this call durable, sharing the fsync with concurrent callers.
+   */
+  public void sync() throws IOException {
+    long end;
+    synchronized (this) {
+      end = position;
+    }
+    synchronized (syncLock) {
+      while (durable < end && syncing) {
+        try {
+          syncLock.wait();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new InterruptedIOException("Interrupted while waiting for sync");
+        }
+      }
+      if (durable >= end) {
+        return;
+      }
+      syncing = true;
+    }
+
+    long synced = 0;
+    try {
+      if (commitWindowNanos > 0) {
+        // Let appenders arriving in the window share this fsync
+        Thread.sleep(commitWindowNanos / 1_000_000, (int) (commitWindowNanos % 1_000_000));
+      }
+      long target;
+      synchronized (this) {
+        target = position;
+      }
+      channel.force(false);
+      synced = target;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while syncing");
+    } finally {
+      synchronized (syncLock) {
+        durable = Math.max(durable, synced);
+        syncing = false;
+        syncLock.notifyAll();
+      }
+    }
+  }
+
+  public Order read(long offset) throws IOException {
+    return read(offset, ByteBuffer.allocate(FRAME_SIZE));
+  }
+
+  /**
+   * Replays every record in append order.
+   */
+  public void forEach(Consumer<? super Order> consumer) throws IOException {
+    ByteBuffer frame = ByteBuffer.allocate(FRAME_SIZE);
+    long end = size();
+    long offset = HEADER_SIZE;
+    while (offset < end) {
+      consumer.accept(read(offset, frame));
+      offset += FRAME_SIZE + frame.getInt(0);
+    }
+  }
+
+  private Order read(long offset, ByteBuffer frame) throws IOException {
+    frame.clear();
+    readFully(frame, offset);
+    int length = frame.getInt(0);
+    if (offset < HEADER_SIZE || length < 0 || length > MAX_PAYLOAD || offset + FRAME_SIZE + length > size()) {
+      throw new IOException("No record at offset " + offset);
+    }
+    ByteBuffer payload = ByteBuffer.allocate(length);
+    readFully(payload, offset + FRAME_SIZE);
+    if (crc(payload) != frame.getInt(4)) {
+      throw new IOException("Corrupt record at offset " + offset);
+    }
+    return decode(payload.flip());
+  }
+
+  /**
+   * The end offset of the last record written.
+   */
+  public synchronized long size() {
+    return position;
+  }
+
+  /**
+   * How many bytes of a torn or corrupt tail were cut off when the journal was opened.
+   */
+  public long truncatedBytes() {
+    return truncatedBytes;
+  }
+
+  @Override
+  public void close() throws IOException {
+    synchronized (this) {
+      if (closed) {
+        return;
+      }
+      closed = true;
+    }
+    try {
+      channel.force(false);
+    } finally {
+      channel.close();
+    }
+  }
+
+  private void ensureOpen() throws IOException {
+    if (closed) {
+      throw new IOException("Journal is closed");
+    }
+  }
+
+  private void checkHeader() throws IOException {
+    ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+    readFully(header, 0);
+    if (header.getInt(0) != MAGIC) {
+      throw new IOException("Not an order journal");
+    }
+    if (header.getInt(4) != VERSION) {
+      throw new IOException("Unsupported journal version " + header.getInt(4));
+    }
+  }
+
+  private long recover(long size) throws IOException {
+    ByteBuffer frame = ByteBuffer.allocate(FRAME_SIZE);
+    ByteBuffer payload = ByteBuffer.allocate(MAX_PAYLOAD);
+    long offset = HEADER_SIZE;
+    while (offset + FRAME_SIZE <= size) {
+      frame.clear();
+      readFully(frame, offset);
+      int length = frame.getInt(0);
+      if (length < 0 || length > MAX_PAYLOAD || offset + FRAME_SIZE + length > size) {
+        break;
+      }
+      payload.clear().limit(length);
+      readFully(payload, offset + FRAME_SIZE);
+      if (crc(payload) != frame.getInt(4)) {
+        break;
+      }
+      offset += FRAME_SIZE + length;
+    }
+    return offset;
+  }
+
+  private void writeFully(ByteBuffer buffer, long offset) throws IOException {
+    while (buffer.hasRemaining()) {
+      offset += channel.write(buffer, offset);
+    }
+  }
+
+  private void readFully(ByteBuffer buffer, long offset) throws IOException {
+    while (buffer.hasRemaining()) {
+      int read = channel.read(buffer, offset);
+      if (read < 0) {
+        throw new EOFException("Unexpected end of journal at " + offset);
+      }
+      offset += read;
+    }
+  }
+
+  private static int crc(ByteBuffer payload) {
+    CRC32 crc = new CRC32();
+    crc.update(payload.duplicate().flip());
+    return (int) crc.getValue();
+  }
+
+  static ByteBuffer encode(Order order) {
+    LocalDateTime date = order.getOrderDate();
+    BigDecimal price = order.getPrice();
+    byte[] unscaled = price == null ? null : price.unscaledValue().toByteArray();
+    int length = 1 + 4 * 8 + 4
+            + (date == null ? 0 : 8 + 4)
+            + (unscaled == null ? 0 : 4 + 4 + unscaled.length);
+    if (length > MAX_PAYLOAD) {
+      throw new IllegalArgumentException("Order is too large for the journal");
+    }
+
+    ByteBuffer record = ByteBuffer.allocate(FRAME_SIZE + length);
+    record.position(FRAME_SIZE);
+    record.put((byte) ((date == null ? 0 : HAS_DATE) | (price == null ? 0 : HAS_PRICE)));
+    record.putLong(order.getId())
+            .putLong(order.getClientId())
+            .putLong(order.getEmployeeId())
+            .putLong(order.getBookId())
+            .putInt(order.getNumberOfBooks());
+    if (date != null) {
+      record.putLong(date.toEpochSecond(ZoneOffset.UTC)).putInt(date.getNano());
+    }
+    if (unscaled != null) {
+      record.putInt(price.scale()).putInt(unscaled.length).put(unscaled);
+    }
+    ByteBuffer payload = record.slice(FRAME_SIZE, length).position(length);
+    record.putInt(0, length).putInt(4, crc(payload));
+    return record.flip();
+  }
+
+  static Order decode(ByteBuffer payload) {
+    int flags = payload.get();
+    Order order = new Order();
+    order.setId(payload.getLong());
+    order.setClientId(payload.getLong());
+    order.setEmployeeId(payload.getLong());
+    order.setBookId(payload.getLong());
+    order.setNumberOfBooks(payload.getInt());
+    if ((flags & HAS_DATE) != 0) {
+      long seconds = payload.getLong();
+      int nanos = payload.getInt();
+      order.setOrderDate(LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC));
+    }
+    if ((flags & HAS_PRICE) != 0) {
+      int scale = payload.getInt();
+      byte[] unscaled = new byte[payload.getInt()];
+      payload.get(unscaled);
+      order.setPrice(new BigDecimal(new BigInteger(unscaled), scale));
+    }
+    return order;
+  }
+}
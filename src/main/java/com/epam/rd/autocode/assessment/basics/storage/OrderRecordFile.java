@@ -0,0 +1,249 @@
+package com.epam.rd.autocode.assessment.basics.storage;
+
+import com.epam.rd.autocode.assessment.basics.entity.Order;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Orders stored as fixed-width binary records, so the k-th order sits at a computable offset.
+ * The file is a 16 byte header followed by 56 byte records:
+ * <pre>
+ *  0 id               8 clientId         16 employeeId      24 bookId
+ * 32 numberOfBooks   36 flags            37 price scale     38 reserved
+ * 40 orderDate as UTC epoch seconds      48 price unscaled value
+ * </pre>
+ * Reading maps the file into memory, so records are decoded straight from the page cache.
+ * Order dates are kept to the second and prices must have an unscaled value that fits a long.
+ */
+public final class OrderRecordFile {
+  public static final int RECORD_SIZE = 56;
+
+  private static final int MAGIC = 0x4f524446;
+  private static final int VERSION = 1;
+  private static final int HEADER_SIZE = 16;
+  // Whole records per mapping, so a record never spans two buffers
+  private static final int RECORDS_PER_SEGMENT = (1 << 30) / RECORD_SIZE;
+  private static final int WRITE_BUFFER_RECORDS = 1024;
+
+  private static final int ID = 0;
+  private static final int CLIENT_ID = 8;
+  private static final int EMPLOYEE_ID = 16;
+  private static final int BOOK_ID = 24;
+  private static final int NUMBER_OF_BOOKS = 32;
+  private static final int FLAGS = 36;
+  private static final int SCALE = 37;
+  private static final int ORDER_DATE = 40;
+  private static final int PRICE = 48;
+
+  private static final int HAS_DATE = 1;
+  private static final int HAS_PRICE = 2;
+
+  private final MappedByteBuffer[] segments;
+  private final long size;
+
+  private OrderRecordFile(MappedByteBuffer[] segments, long size) {
+    this.segments = segments;
+    this.size = size;
+  }
+
+  /**
+   * Writes the orders to a new record file, replacing an existing one.
+   *
+   * @return the number of records written
+   */
+  public static long write(Path file, Iterator<? extends Order> orders) throws IOException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+      ByteBuffer buffer = ByteBuffer.allocateDirect(RECORD_SIZE * WRITE_BUFFER_RECORDS);
+      buffer.putInt(MAGIC).putInt(VERSION).putInt(RECORD_SIZE).putInt(0);
+      long count = 0;
+      while (orders.hasNext()) {
+        if (buffer.remaining() < RECORD_SIZE) {
+          drain(channel, buffer);
+        }
+        encode(orders.next(), buffer);
+        count++;
+      }
+      drain(channel, buffer);
+      return count;
+    }
+  }
+
+  public static OrderRecordFile open(Path file) throws IOException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      long length = channel.size();
+      ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+      while (header.hasRemaining() && channel.read(header, header.position()) >= 0) {
+        // Read the whole header
+      }
+      if (header.hasRemaining() || header.getInt(0) != MAGIC) {
+        throw new IOException("Not an order record file: " + file);
+      }
+      if (header.getInt(4) != VERSION || header.getInt(8) != RECORD_SIZE) {
+        throw new IOException("Unsupported order record file version " + header.getInt(4));
+      }
+      if ((length - HEADER_SIZE) % RECORD_SIZE != 0) {
+        throw new IOException("Truncated order record file: " + file);
+      }
+
+      long size = (length - HEADER_SIZE) / RECORD_SIZE;
+      int count = (int) ((size + RECORDS_PER_SEGMENT - 1) / RECORDS_PER_SEGMENT);
+      MappedByteBuffer[] segments = new MappedByteBuffer[count];
+      for (int i = 0; i < count; i++) {
+        long first = (long) i * RECORDS_PER_SEGMENT;
+        long records = Math.min(RECORDS_PER_SEGMENT, size - first);
+        segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE + first * RECORD_SIZE,
+                records * RECORD_SIZE);
+      }
+      // The mappings stay valid after the channel is closed
+      return new OrderRecordFile(segments, size);
+    }
+  }
+
+  public long size() {
+    return size;
+  }
+
+  public Order get(long index) {
+    ByteBuffer segment = segment(index);
+    int offset = offset(index);
+    Order order = new Order();
+    order.setId(segment.getLong(offset + ID));
+    order.setClientId(segment.getLong(offset + CLIENT_ID));
+    order.setEmployeeId(segment.getLong(offset + EMPLOYEE_ID));
+    order.setBookId(segment.getLong(offset + BOOK_ID));
+    order.setNumberOfBooks(segment.getInt(offset + NUMBER_OF_BOOKS));
+    int flags = segment.get(offset + FLAGS);
+    if ((flags & HAS_DATE) != 0) {
+      order.setOrderDate(LocalDateTime.ofEpochSecond(segment.getLong(offset + ORDER_DATE), 0, ZoneOffset.UTC));
+    }
+    if ((flags & HAS_PRICE) != 0) {
+      order.setPrice(BigDecimal.valueOf(segment.getLong(offset + PRICE), segment.get(offset + SCALE)));
+    }
+    return order;
+  }
+
+  /**
+   * Returns the orders with indexes from {@code from}, inclusive, to {@code to}, exclusive.
+   */
+  public List<Order> range(long from, long to) {
+    if (from < 0 || to > size || from > to) {
+      throw new IndexOutOfBoundsException("Range [" + from + ", " + to + ") of " + size);
+    }
+    List<Order> orders = new ArrayList<>((int) Math.min(to - from, Integer.MAX_VALUE));
+    for (long i = from; i < to; i++) {
+      orders.add(get(i));
+    }
+    return orders;
+  }
+
+  // Column accessors for scans that do not need Order instances
+
+  public long getId(long index) {
+    return segment(index).getLong(offset(index) + ID);
+  }
+
+  public long getClientId(long index) {
+    return segment(index).getLong(offset(index) + CLIENT_ID);
+  }
+
+  public long getEmployeeId(long index) {
+    return segment(index).getLong(offset(index) + EMPLOYEE_ID);
+  }
+
+  public long getBookId(long index) {
+    return segment(index).getLong(offset(index) + BOOK_ID);
+  }
+
+  public int getNumberOfBooks(long index) {
+    return segment(index).getInt(offset(index) + NUMBER_OF_BOOKS);
+  }
+
+  /**
+   * The order date as UTC epoch seconds, or {@link Long#MIN_VALUE} when the order has no date.
+   */
+  public long getOrderEpochSecond(long index) {
+    ByteBuffer segment = segment(index);
+    int offset = offset(index);
+    return (segment.get(offset + FLAGS) & HAS_DATE) != 0 ? segment.getLong(offset + ORDER_DATE) : Long.MIN_VALUE;
+  }
+
+  /**
+   * The unscaled price, zero when the order has no price; see {@link #getPriceScale(long)}.
+   */
+  public long getPriceUnscaled(long index) {
+    return segment(index).getLong(offset(index) + PRICE);
+  }
+
+  public int getPriceScale(long index) {
+    return segment(index).get(offset(index) + SCALE);
+  }
+
+  public boolean hasPrice(long index) {
+    return (segment(index).get(offset(index) + FLAGS) & HAS_PRICE) != 0;
+  }
+
+  private ByteBuffer segment(long index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Record " + index + " of " + size);
+    }
+    return segments[(int) (index / RECORDS_PER_SEGMENT)];
+  }
+
+  private static int offset(long index) {
+    return (int) (index % RECORDS_PER_SEGMENT) * RECORD_SIZE;
+  }
+
+  private static void encode(Order order, ByteBuffer buffer) {
+    LocalDateTime date = order.getOrderDate();
+    BigDecimal price = order.getPrice();
+    if (date != null && date.getNano() != 0) {
+      throw new IllegalArgumentException("Order date has fractional seconds: " + date);
+    }
+    long unscaled = 0;
+    int scale = 0;
+    if (price != null) {
+      scale = price.scale();
+      if (scale < Byte.MIN_VALUE || scale > Byte.MAX_VALUE) {
+        throw new IllegalArgumentException("Price scale out of range: " + price);
+      }
+      try {
+        unscaled = price.unscaledValue().longValueExact();
+      } catch (ArithmeticException e) {
+        throw new IllegalArgumentException("Price does not fit a long: " + price, e);
+      }
+    }
+
+    int offset = buffer.position();
+    buffer.putLong(offset + ID, order.getId())
+            .putLong(offset + CLIENT_ID, order.getClientId())
+            .putLong(offset + EMPLOYEE_ID, order.getEmployeeId())
+            .putLong(offset + BOOK_ID, order.getBookId())
+            .putInt(offset + NUMBER_OF_BOOKS, order.getNumberOfBooks())
+            .put(offset + FLAGS, (byte) ((date == null ? 0 : HAS_DATE) | (price == null ? 0 : HAS_PRICE)))
+            .put(offset + SCALE, (byte) scale)
+            .putShort(offset + SCALE + 1, (short) 0)
+            .putLong(offset + ORDER_DATE, date == null ? 0 : date.toEpochSecond(ZoneOffset.UTC))
+            .putLong(offset + PRICE, unscaled);
+    buffer.position(offset + RECORD_SIZE);
+  }
+
+  private static void drain(FileChannel channel, ByteBuffer buffer) throws IOException {
+    buffer.flip();
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+    buffer.clear();
+  }
+}
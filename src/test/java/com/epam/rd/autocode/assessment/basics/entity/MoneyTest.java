@@ -0,0 +1,81 @@
+package com.epam.rd.autocode.assessment.basics.entity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.math.BigDecimal;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MoneyTest {
+
+    public static Stream<Arguments> casesParse() {
+        return Stream.of(
+                Arguments.of("12.99"),
+                Arguments.of("140"),
+                Arguments.of("-0.05"),
+                Arguments.of("+7.250"),
+                Arguments.of(".5"),
+                Arguments.of("5."),
+                Arguments.of("-9223372036854775808"),
+                Arguments.of("922337203685477580.7")
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("casesParse")
+    @DisplayName("Money parses plain decimals like BigDecimal")
+    void testParse(String text) {
+        BigDecimal expected = new BigDecimal(text);
+        Money money = Money.parse(text);
+        assertEquals(expected, money.toBigDecimal());
+        assertEquals(expected.toPlainString(), money.toString());
+        assertEquals(money, Money.valueOf(expected));
+    }
+
+    public static Stream<Arguments> casesParseMinor() {
+        return Stream.of(
+                Arguments.of("12.99", 2, 1299L),
+                Arguments.of("12.9", 2, 1290L),
+                Arguments.of("12", 4, 120000L),
+                Arguments.of("-3.100", 1, -31L),
+                Arguments.of("0.00", 0, 0L)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("casesParseMinor")
+    @DisplayName("Money parses straight into minor units of a scale")
+    void testParseMinor(String text, int scale, long expected) {
+        assertEquals(expected, Money.parseMinor(text, 0, text.length(), scale));
+        assertEquals(expected, Money.toMinor(new BigDecimal(text), scale));
+    }
+
+    @Test
+    @DisplayName("Money refuses to round or overflow")
+    void testExactness() {
+        assertThrows(ArithmeticException.class, () -> Money.parseMinor("1.005", 0, 5, 2));
+        assertThrows(ArithmeticException.class, () -> Money.parseMinor("9223372036854775808", 0, 19, 0));
+        assertThrows(ArithmeticException.class, () -> Money.parseMinor("92233720368547758", 0, 17, 3));
+        assertThrows(NumberFormatException.class, () -> Money.parseMinor("1e3", 0, 3, 0));
+        assertThrows(NumberFormatException.class, () -> Money.parseMinor("-", 0, 1, 0));
+    }
+
+    @Test
+    @DisplayName("Money arithmetic and ordering follow BigDecimal")
+    void testArithmetic() {
+        Money sum = Money.parse("12.99").plus(Money.parse("0.011"));
+        assertEquals(new BigDecimal("13.001"), sum.toBigDecimal());
+        assertEquals(new BigDecimal("38.97"), Money.parse("12.99").times(3).toBigDecimal());
+        assertEquals(0, Money.parse("1.50").compareTo(Money.parse("1.5")));
+        assertTrue(Money.parse("-2").compareTo(Money.of(Long.MAX_VALUE, 18)) < 0);
+        assertEquals("0.007", Money.format(7, 3));
+        assertEquals("-1.000", Money.format(-1000, 3));
+    }
+}
@@ -0,0 +1,84 @@
+package com.epam.rd.autocode.assessment.basics.generator;
+
+import com.epam.rd.autocode.assessment.basics.entity.Book;
+import com.epam.rd.autocode.assessment.basics.entity.Order;
+import com.epam.rd.autocode.assessment.basics.service.CsvStorage;
+import com.epam.rd.autocode.assessment.basics.service.CsvStorageImpl;
+import com.epam.rd.autocode.assessment.basics.service.Mapper;
+import com.epam.rd.autocode.assessment.basics.service.MapperImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DatasetGeneratorTest {
+
+    private final Mapper mapper = new MapperImpl();
+
+    @ParameterizedTest
+    @ValueSource(strings = {",", ";"})
+    @DisplayName("Generated books survive a read/write round trip unchanged")
+    void testBooksRoundTrip(String delimiter) throws IOException {
+        CsvStorage storage = new CsvStorageImpl(Map.of("quoteCharacter", "'",
+                "valuesDelimiter", delimiter, "headerLine", "false"));
+        DatasetGenerator generator = new DatasetGenerator(7);
+        generator.setHeaderLine(false);
+        generator.setEmptyValueRatio(0.05);
+        generator.setWideDescriptionRatio(0.2);
+        ByteArrayOutputStream generated = new ByteArrayOutputStream();
+        generator.writeBooks(storage, generated, 2_000);
+
+        List<Book> books = storage.read(new ByteArrayInputStream(generated.toByteArray()), mapper::csvToBook);
+        ByteArrayOutputStream rewritten = new ByteArrayOutputStream();
+        storage.write(rewritten, books, mapper::bookToCsv);
+
+        assertEquals(2_000, books.size());
+        assertEquals(generated.toString(), rewritten.toString());
+        assertTrue(books.stream().anyMatch(book -> book.getDescription() != null
+                && book.getDescription().length() >= 2048));
+    }
+
+    @Test
+    @DisplayName("The same seed produces the same files and orders reference existing ids")
+    void testDeterministicOrders(@TempDir Path dir) throws IOException {
+        CsvStorage storage = new CsvStorageImpl();
+        new DatasetGenerator(42).generate(storage, dir.resolve("a"), 100, 50, 5, 5_000);
+        new DatasetGenerator(42).generate(storage, dir.resolve("b"), 100, 50, 5, 5_000);
+        for (String name : new String[]{"books.csv", "clients.csv", "employees.csv", "orders.csv"}) {
+            assertArrayEquals(Files.readAllBytes(dir.resolve("a").resolve(name)),
+                    Files.readAllBytes(dir.resolve("b").resolve(name)), name);
+        }
+
+        List<Order> orders;
+        try (InputStream in = Files.newInputStream(dir.resolve("a").resolve("orders.csv"))) {
+            orders = storage.read(in, mapper::csvToOrder);
+        }
+        assertEquals(5_000, orders.size());
+        for (int i = 0; i < orders.size(); i++) {
+            Order order = orders.get(i);
+            assertTrue(order.getBookId() >= 1 && order.getBookId() <= 100);
+            assertTrue(order.getClientId() >= 1 && order.getClientId() <= 50);
+            assertTrue(order.getEmployeeId() >= 1 && order.getEmployeeId() <= 5);
+            assertFalse(i > 0 && order.getOrderDate().isBefore(orders.get(i - 1).getOrderDate()));
+        }
+        long[] perBook = new long[101];
+        orders.forEach(order -> perBook[(int) order.getBookId()]++);
+        assertTrue(perBook[1] > Arrays.stream(perBook).sum() / 10, "Book sales should be skewed");
+    }
+}
@@ -0,0 +1,98 @@
+package com.epam.rd.autocode.assessment.basics.query;
+
+import com.epam.rd.autocode.assessment.basics.entity.Client;
+import com.epam.rd.autocode.assessment.basics.entity.Employee;
+import com.epam.rd.autocode.assessment.basics.entity.Order;
+import com.epam.rd.autocode.assessment.basics.service.CsvStorageImpl;
+import com.epam.rd.autocode.assessment.basics.service.MapperImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class HashJoinTest {
+    private static final String ORDERS = """
+            id,clientId,employeeId,bookId,numberOfBooks,orderDate,price
+            1,10,100,1000,1,2024-01-01T10:00,1.50
+            2,20,100,1000,2,2024-01-02T10:00,2.50
+            3,10,200,3000,3,2024-01-03T10:00,3.50
+            4,99,200,3000,4,2024-01-04T10:00,4.50
+            """;
+
+    @Test
+    @DisplayName("Join enriches streamed orders with client and employee names")
+    void testProbeStream() throws IOException {
+        HashJoin<Client> clients = HashJoin.build(List.of(
+                new Client(10, "a@x", "p", "Ann", BigDecimal.ONE),
+                new Client(20, "b@x", "p", "Bob", BigDecimal.ONE)), Client::getId);
+        HashJoin<Employee> employees = HashJoin.build(List.of(
+                new Employee(100, "c@x", "p", "Cid", "555", null),
+                new Employee(200, "d@x", "p", "Dan", "555", null)), Employee::getId);
+        List<String> joined = new ArrayList<>();
+        clients.probe(new CsvStorageImpl(), new ByteArrayInputStream(ORDERS.getBytes()), new MapperImpl()::csvToOrder,
+                Order::getClientId, (order, client) -> joined.add(order.getId() + ":" + client.getName() + ":"
+                        + employees.lookup(order.getEmployeeId()).getName()));
+        assertEquals(List.of("1:Ann:Cid", "2:Bob:Cid", "3:Ann:Dan"), joined);
+        assertNull(clients.lookup(99));
+    }
+
+    @Test
+    @DisplayName("Every build row sharing a key matches, in build order")
+    void testDuplicateBuildKeys() {
+        HashJoin<Order> byClient = HashJoin.build(List.of(order(1, 10), order(2, 20), order(3, 10)), Order::getClientId);
+        List<Long> matches = new ArrayList<>();
+        int count = byClient.probe(10L, Long::longValue, (key, order) -> matches.add(order.getId()));
+        assertEquals(2, count);
+        assertEquals(List.of(1L, 3L), matches);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    @DisplayName("Parallel probe over a file finds the same pairs as the sequential one")
+    void testParallelProbe(int parallelism, @TempDir Path dir) throws IOException {
+        StringBuilder data = new StringBuilder("id,clientId,employeeId,bookId,numberOfBooks,orderDate,price\n");
+        for (int i = 1; i <= 20_000; i++) {
+            data.append(i).append(',').append(i % 50).append(",1,1,1,2024-01-01T10:00,1.00\n");
+        }
+        Path file = Files.writeString(dir.resolve("orders.csv"), data);
+        List<Client> clientList = new ArrayList<>();
+        for (int id = 0; id < 50; id += 2) {
+            clientList.add(new Client(id, "", "", "c" + id, BigDecimal.ZERO));
+        }
+        HashJoin<Client> clients = HashJoin.build(clientList, Client::getId);
+        AtomicLong idSum = new AtomicLong();
+        Map<Long, Integer> perClient = new ConcurrentHashMap<>();
+        clients.probe(new CsvStorageImpl(), file, new MapperImpl()::csvToOrder, Order::getClientId, (order, client) -> {
+            idSum.addAndGet(order.getId());
+            perClient.merge(client.getId(), 1, Integer::sum);
+        }, parallelism);
+        long expected = 0;
+        for (int i = 1; i <= 20_000; i++) {
+            if (i % 50 % 2 == 0) {
+                expected += i;
+            }
+        }
+        assertEquals(expected, idSum.get());
+        assertEquals(25, perClient.size());
+        assertEquals(400, perClient.get(0L));
+    }
+
+    private static Order order(long id, long clientId) {
+        return new Order(id, clientId, 1, 1, 1, null, null);
+    }
+}
@@ -0,0 +1,82 @@
+package com.epam.rd.autocode.assessment.basics.query;
+
+import com.epam.rd.autocode.assessment.basics.entity.Order;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SalesAggregatorTest {
+
+    @Test
+    @DisplayName("Totals are grouped by book, employee, client and month")
+    void testGroups() {
+        List<Order> orders = List.of(
+                new Order(1, 10, 100, 1000, 2, LocalDateTime.of(2024, 1, 5, 10, 0), new BigDecimal("3.50")),
+                new Order(2, 20, 100, 2000, 1, LocalDateTime.of(2024, 1, 20, 10, 0), new BigDecimal("1.25")),
+                new Order(3, 10, 200, 1000, 4, LocalDateTime.of(2024, 2, 1, 10, 0), new BigDecimal("7")),
+                new Order(4, 10, 200, 1000, 1, null, null));
+        SalesAggregator.Report report = new SalesAggregator().aggregate(orders);
+
+        assertEquals(new BigDecimal("10.50"), report.byBook().getRevenue(1000));
+        assertEquals(7, report.byBook().getUnits(1000));
+        assertEquals(3, report.byBook().getOrders(1000));
+        assertEquals(475, report.byEmployee().getRevenueMinorUnits(100));
+        assertEquals(2, report.byEmployee().getOrders(200));
+        assertArrayEquals(new long[]{10, 20}, report.byClient().keys());
+        assertArrayEquals(new long[]{202401, 202402}, report.byMonth().keys());
+        assertEquals(new BigDecimal("4.75"), report.byMonth().getRevenue(SalesAggregator.monthKey(YearMonth.of(2024, 1))));
+        assertEquals(YearMonth.of(2024, 2), SalesAggregator.month(202402));
+        assertFalse(report.byBook().contains(3000));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3, 8})
+    @DisplayName("Parallel totals match a sequential loop")
+    void testParallelMatchesSequential(int parallelism) {
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            orders.add(new Order(i, i % 97, i % 13, i % 1009, 1 + i % 5,
+                    LocalDateTime.of(2020 + i % 4, 1 + i % 12, 1, 0, 0), BigDecimal.valueOf(i % 1000, 2)));
+        }
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            SalesAggregator.Report report = new SalesAggregator(pool, 2).aggregate(orders);
+            long revenue = 0;
+            long units = 0;
+            for (Order order : orders) {
+                if (order.getClientId() == 42) {
+                    revenue += order.getPrice().unscaledValue().longValue();
+                    units += order.getNumberOfBooks();
+                }
+            }
+            assertEquals(revenue, report.byClient().getRevenueMinorUnits(42));
+            assertEquals(units, report.byClient().getUnits(42));
+            assertEquals(97, report.byClient().size());
+            assertEquals(1009, report.byBook().size());
+            assertEquals(12, report.byMonth().size());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("A price finer than the revenue scale is rejected")
+    void testScaleTooSmall() {
+        List<Order> orders = List.of(new Order(1, 1, 1, 1, 1, null, new BigDecimal("0.125")));
+        SalesAggregator aggregator = new SalesAggregator();
+        assertThrows(ArithmeticException.class, () -> aggregator.aggregate(orders));
+    }
+}
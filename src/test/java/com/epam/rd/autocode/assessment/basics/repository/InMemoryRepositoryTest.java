@@ -0,0 +1,95 @@
+package com.epam.rd.autocode.assessment.basics.repository;
+
+import com.epam.rd.autocode.assessment.basics.entity.Order;
+import com.epam.rd.autocode.assessment.basics.service.CsvStorageImpl;
+import com.epam.rd.autocode.assessment.basics.service.MapperImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class InMemoryRepositoryTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {8, 64, 4096})
+    @DisplayName("Map agrees with HashMap under random puts and removes")
+    void testMapAgainstHashMap(int keyRange) {
+        Random random = new Random(keyRange);
+        LongIntHashMap map = new LongIntHashMap();
+        Map<Long, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 50_000; i++) {
+            long key = random.nextInt(keyRange) - keyRange / 4;
+            if (random.nextInt(3) == 0) {
+                Integer removed = expected.remove(key);
+                assertEquals(removed == null ? LongIntHashMap.NO_VALUE : removed, map.remove(key));
+            } else {
+                int value = random.nextInt(Integer.MAX_VALUE);
+                Integer previous = expected.put(key, value);
+                assertEquals(previous == null ? LongIntHashMap.NO_VALUE : previous, map.put(key, value));
+            }
+        }
+        assertEquals(expected.size(), map.size());
+        for (long key = -keyRange; key < keyRange; key++) {
+            Integer value = expected.get(key);
+            assertEquals(value == null ? LongIntHashMap.NO_VALUE : value, map.get(key));
+        }
+    }
+
+    @Test
+    @DisplayName("Repository upserts, deletes and reuses freed rows")
+    void testUpsertDelete() {
+        InMemoryRepository<Order> repository = InMemoryRepository.orders();
+        Order first = order(1, 10);
+        Order second = order(0, 20);
+        assertNull(repository.upsert(first));
+        assertNull(repository.upsert(second));
+        Order replacement = order(1, 30);
+        assertSame(first, repository.upsert(replacement));
+        assertSame(replacement, repository.get(1));
+        assertSame(second, repository.get(0));
+        assertEquals(2, repository.size());
+
+        assertSame(second, repository.delete(0));
+        assertNull(repository.delete(0));
+        assertNull(repository.get(0));
+        Order third = order(3, 40);
+        repository.upsert(third);
+        assertEquals(2, repository.rowCount());
+        assertEquals(List.of(replacement, third), repository.values());
+    }
+
+    @Test
+    @DisplayName("Repository loads a csv source, later records replacing earlier ones")
+    void testLoad() throws IOException {
+        String data = """
+                id,clientId,employeeId,bookId,numberOfBooks,orderDate,price
+                1,10,100,1000,1,2024-01-01T10:00,1.50
+                2,20,200,2000,2,2024-01-02T10:00,2.50
+                1,30,300,3000,3,2024-01-03T10:00,3.50
+                """;
+        InMemoryRepository<Order> repository = InMemoryRepository.orders();
+        int read = repository.load(new CsvStorageImpl(), new ByteArrayInputStream(data.getBytes()),
+                new MapperImpl()::csvToOrder);
+        assertEquals(3, read);
+        assertEquals(2, repository.size());
+        assertEquals(30, repository.get(1).getClientId());
+        assertEquals(new BigDecimal("2.50"), repository.get(2).getPrice());
+    }
+
+    private static Order order(long id, long clientId) {
+        return new Order(id, clientId, 1, 1, 1, LocalDateTime.of(2024, 1, 1, 0, 0), BigDecimal.ONE);
+    }
+}
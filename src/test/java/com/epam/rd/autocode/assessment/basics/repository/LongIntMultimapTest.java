@@ -0,0 +1,36 @@
+package com.epam.rd.autocode.assessment.basics.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LongIntMultimapTest {
+
+    @Test
+    @DisplayName("Keys whose values are all removed are dropped and their slots reused")
+    void testChurn() {
+        LongIntMultimap map = new LongIntMultimap();
+        map.put(7, 1);
+        for (int i = 0; i < 100_000; i++) {
+            map.put(1_000 + i, i);
+            map.put(1_000 + i, i + 1);
+            assertTrue(map.remove(1_000 + i, i));
+            assertTrue(map.remove(1_000 + i, i + 1));
+            assertFalse(map.remove(1_000 + i, i));
+        }
+        assertEquals(1, map.keyCount());
+        assertEquals(0, map.count(1_000));
+
+        map.put(0, 5);
+        map.put(1_000, 6);
+        map.put(0, 7);
+        assertArrayEquals(new int[]{5, 7}, map.get(0));
+        assertArrayEquals(new int[]{6}, map.get(1_000));
+        assertArrayEquals(new int[]{1}, map.get(7));
+        assertEquals(3, map.keyCount());
+    }
+}
@@ -0,0 +1,59 @@
+package com.epam.rd.autocode.assessment.basics.repository;
+
+import com.epam.rd.autocode.assessment.basics.entity.Order;
+import com.epam.rd.autocode.assessment.basics.service.CsvStorageImpl;
+import com.epam.rd.autocode.assessment.basics.service.MapperImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class OrderRepositoryTest {
+
+    @Test
+    @DisplayName("Indexes are built while loading")
+    void testLoadIndexes() throws IOException {
+        String data = """
+                id,clientId,employeeId,bookId,numberOfBooks,orderDate,price
+                1,10,100,1000,1,2024-01-01T10:00,1.50
+                2,20,100,1000,2,2024-01-02T10:00,2.50
+                3,10,200,3000,3,2024-01-03T10:00,3.50
+                """;
+        OrderRepository repository = new OrderRepository();
+        repository.load(new CsvStorageImpl(), new ByteArrayInputStream(data.getBytes()), new MapperImpl()::csvToOrder);
+        assertArrayEquals(new long[]{1, 3}, repository.findIdsByClientId(10));
+        assertArrayEquals(new long[]{1, 2}, repository.findIdsByEmployeeId(100));
+        assertArrayEquals(new long[]{3}, repository.findIdsByBookId(3000));
+        assertArrayEquals(new long[0], repository.findIdsByBookId(4000));
+        assertEquals(2, repository.countByBookId(1000));
+    }
+
+    @Test
+    @DisplayName("Indexes follow upserts and deletes")
+    void testIndexesUpdated() {
+        OrderRepository repository = new OrderRepository();
+        repository.upsert(order(1, 10, 100, 1000));
+        repository.upsert(order(2, 10, 100, 2000));
+        repository.upsert(order(1, 20, 100, 2000));
+        assertArrayEquals(new long[]{2}, repository.findIdsByClientId(10));
+        assertArrayEquals(new long[]{1}, repository.findIdsByClientId(20));
+        assertArrayEquals(new long[]{2, 1}, repository.findIdsByBookId(2000));
+        assertEquals(0, repository.countByBookId(1000));
+
+        repository.delete(2);
+        repository.upsert(order(3, 30, 300, 2000));
+        assertArrayEquals(new long[0], repository.findIdsByClientId(10));
+        assertArrayEquals(new long[]{1}, repository.findIdsByEmployeeId(100));
+        assertArrayEquals(new long[]{1, 3}, repository.findIdsByBookId(2000));
+    }
+
+    private static Order order(long id, long clientId, long employeeId, long bookId) {
+        return new Order(id, clientId, employeeId, bookId, 1, LocalDateTime.of(2024, 1, 1, 0, 0), BigDecimal.ONE);
+    }
+}
@@ -0,0 +1,191 @@
+package com.epam.rd.autocode.assessment.basics.service;
+
+import com.epam.rd.autocode.assessment.basics.entity.Order;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AsyncCsvWriterTest {
+    private final Mapper mapper = new MapperImpl();
+
+    @ParameterizedTest
+    @MethodSource("com.epam.rd.autocode.assessment.basics.service.CsvStorageImplTest#casesWriteOrder")
+    @DisplayName("Async writer produces the same output as write")
+    void testWriteOrder(String fName,
+                        String encoding,
+                        String quoteCharacter,
+                        String valuesDelimiter,
+                        String headerLine,
+                        List<Order> orders) throws IOException {
+        CsvStorage csvStorage = new CsvStorageImpl(Map.of("encoding", encoding,
+                "quoteCharacter", quoteCharacter,
+                "valuesDelimiter", valuesDelimiter,
+                "headerLine", headerLine));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (AsyncCsvWriter<Order> writer = new AsyncCsvWriter<>(csvStorage.openWriter(out, mapper::orderToCsv),
+                2, 2, Duration.ofMillis(10))) {
+            writer.writeAll(orders);
+        }
+        String expected = Files.readString(Path.of(fName), Charset.forName(encoding));
+        assertEquals(expected, out.toString(Charset.forName(encoding)),
+                "Some content are not equal. Check your realization.");
+    }
+
+    @Test
+    @DisplayName("Async writer keeps every record from concurrent producers")
+    void testConcurrentProducers() throws Exception {
+        CsvStorage csvStorage = new CsvStorageImpl(Map.of("quoteCharacter", "'", "valuesDelimiter", ";"));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int producers = 4;
+        int perProducer = 5_000;
+        ExecutorService pool = Executors.newFixedThreadPool(producers);
+        try (AsyncCsvWriter<Order> writer = new AsyncCsvWriter<>(csvStorage.openWriter(out, mapper::orderToCsv),
+                64, 256, Duration.ofMillis(5))) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int p = 0; p < producers; p++) {
+                int offset = p * perProducer;
+                futures.add(pool.submit(() -> {
+                    for (int i = 1; i <= perProducer; i++) {
+                        writer.write(new Order(offset + i, 1, 2, 3, 1,
+                                LocalDateTime.parse("2022-09-04T00:00"), BigDecimal.TEN));
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            writer.flush();
+            assertEquals(producers * perProducer, out.toString().lines().count());
+        } finally {
+            pool.shutdown();
+        }
+        long[] ids = out.toString().lines().mapToLong(line -> Long.parseLong(line.split(";")[0])).sorted().toArray();
+        long[] expected = new long[producers * perProducer];
+        Arrays.setAll(expected, i -> i + 1);
+        assertEquals(Arrays.toString(expected), Arrays.toString(ids));
+    }
+
+    @Test
+    @DisplayName("Async writer flushes pending records after the flush interval")
+    void testTimedFlush() throws Exception {
+        CsvStorage csvStorage = new CsvStorageImpl(Map.of("quoteCharacter", "'", "valuesDelimiter", ";"));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (AsyncCsvWriter<Order> writer = new AsyncCsvWriter<>(csvStorage.openWriter(out, mapper::orderToCsv),
+                16, 1_000, Duration.ofMillis(20))) {
+            writer.write(new Order(1, 1, 2, 3, 1, null, null));
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (out.size() == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            assertTrue(out.size() > 0, "Pending records were not flushed in time.");
+        }
+    }
+
+    @Test
+    @DisplayName("Async writer reports a failed destination to producers")
+    void testFailurePropagation() throws IOException {
+        CsvStorage csvStorage = new CsvStorageImpl(Map.of("quoteCharacter", "'", "valuesDelimiter", ";"));
+        OutputStream broken = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Disk full");
+            }
+        };
+        AsyncCsvWriter<Order> writer = new AsyncCsvWriter<>(csvStorage.openWriter(broken, mapper::orderToCsv),
+                4, 1, Duration.ofMillis(5));
+        writer.write(new Order(1, 1, 2, 3, 1, null, null));
+        IOException e = assertThrows(IOException.class, writer::flush);
+        assertEquals("Disk full", e.getCause().getMessage());
+        assertThrows(IOException.class, () -> writer.write(new Order(2, 1, 2, 3, 1, null, null)));
+        assertThrows(IOException.class, writer::close);
+    }
+
+    @Test
+    @DisplayName("Every write that returns before close is written, and none hangs")
+    void testCloseRacesWrites() throws Exception {
+        CsvStorage csvStorage = new CsvStorageImpl(Map.of("quoteCharacter", "'", "valuesDelimiter", ";"));
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            for (int round = 0; round < 20; round++) {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                AsyncCsvWriter<Order> writer = new AsyncCsvWriter<>(csvStorage.openWriter(out, mapper::orderToCsv),
+                        2, 4, Duration.ofMillis(1));
+                AtomicLong accepted = new AtomicLong();
+                List<Future<?>> futures = new ArrayList<>();
+                for (int p = 0; p < 3; p++) {
+                    futures.add(pool.submit(() -> {
+                        try {
+                            for (int i = 1; ; i++) {
+                                writer.write(new Order(i, 1, 2, 3, 1, null, null));
+                                accepted.incrementAndGet();
+                                if (i % 16 == 0) {
+                                    writer.flush();
+                                }
+                            }
+                        } catch (IOException e) {
+                            return null;
+                        }
+                    }));
+                }
+                Thread.sleep(2);
+                writer.close();
+                for (Future<?> future : futures) {
+                    future.get(10, TimeUnit.SECONDS);
+                }
+                assertEquals(accepted.get(), out.toString().lines().count());
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Calls fail instead of hanging once the background thread has stopped")
+    void testStoppedWorker() throws Exception {
+        CsvStorage csvStorage = new CsvStorageImpl(Map.of("quoteCharacter", "'", "valuesDelimiter", ";"));
+        AsyncCsvWriter<Order> writer = new AsyncCsvWriter<>(csvStorage.openWriter(new ByteArrayOutputStream(),
+                mapper::orderToCsv), 1, 1, Duration.ofMillis(5));
+        Thread worker = Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.getName().equals("async-csv-writer"))
+                .findFirst().orElseThrow();
+        worker.interrupt();
+        worker.join(5_000);
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> flush = pool.submit(() -> assertThrows(IOException.class, () -> {
+                writer.write(new Order(1, 1, 2, 3, 1, null, null));
+                writer.write(new Order(2, 1, 2, 3, 1, null, null));
+                writer.flush();
+            }));
+            flush.get(10, TimeUnit.SECONDS);
+            assertThrows(IOException.class, writer::close);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.epam.rd.autocode.assessment.basics.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.math.BigDecimal;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CsvRowTest {
+
+    public static Stream<Arguments> casesAccessors() {
+        return Stream.of(
+                Arguments.of(" 42 ;x", 42L, false, "42"),
+                Arguments.of("-7;x", -7L, false, "-7"),
+                Arguments.of("'13';x", 13L, false, "13"),
+                Arguments.of(";x", 0L, true, ""),
+                Arguments.of("'';x", 0L, true, "''"),
+                Arguments.of("  ;x", 0L, true, ""),
+                Arguments.of("1234567890123456789;x", 1234567890123456789L, false, "1234567890123456789")
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("casesAccessors")
+    @DisplayName("Row accessors parse fields like the mapper")
+    void testAccessors(String line, long expectedLong, boolean expectedEmpty, String expectedString) {
+        CsvTokenizer tokenizer = new CsvTokenizer("'", ";");
+        CsvRow row = new CsvRow(tokenizer);
+        tokenizer.tokenize(line);
+        assertEquals(2, row.size());
+        assertEquals(expectedLong, row.getLong(0));
+        assertEquals(expectedEmpty, row.isEmpty(0));
+        assertEquals(expectedString, row.getString(0));
+        assertEquals(expectedEmpty ? null : new BigDecimal(expectedString), row.getDecimal(0));
+    }
+}
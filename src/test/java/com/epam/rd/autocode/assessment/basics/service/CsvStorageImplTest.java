@@ -8,6 +8,8 @@ import com.epam.rd.autocode.assessment.basics.entity.enums.AgeGroup;
 import com.epam.rd.autocode.assessment.basics.entity.enums.Language;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -409,4 +411,344 @@ class CsvStorageImplTest {
             fail(e);
         }
     }
+
+    @ParameterizedTest
+    @MethodSource("casesReadOrder")
+    @DisplayName("Method stream launched for Order [lazy csv->object conversion tested]")
+    void testStreamOrder(String fName,
+                         String encoding,
+                         String quoteCharacter,
+                         String valuesDelimiter,
+                         String headerLine,
+                         List<Order> expected) {
+        csvStorage = new CsvStorageImpl(Map.of("encoding", encoding,
+                "quoteCharacter", quoteCharacter,
+                "valuesDelimiter", valuesDelimiter,
+                "headerLine", headerLine));
+        try (FileInputStream in = new FileInputStream(fName);
+             Stream<Order> orders = csvStorage.stream(in, mapper::csvToOrder)) {
+            assertIterableEquals(expected, orders.toList(),
+                    "Some content are not equal. Check your realization.");
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("casesDefaultRead")
+    @DisplayName("Method stream closes the source once all records are consumed")
+    void testStreamClosesSource(String data, List<Client> expected) throws IOException {
+        boolean[] closed = new boolean[1];
+        ByteArrayInputStream in = new ByteArrayInputStream(data.getBytes()) {
+            @Override
+            public void close() throws IOException {
+                closed[0] = true;
+                super.close();
+            }
+        };
+        Iterator<Client> clients = csvStorage.stream(in, mapper::csvToClient).iterator();
+        List<Client> actual = new ArrayList<>();
+        while (clients.hasNext()) {
+            assertFalse(closed[0], "The source must stay open while records remain.");
+            actual.add(clients.next());
+        }
+        assertIterableEquals(expected, actual);
+        assertTrue(closed[0], "The source must be closed after the last record.");
+    }
+
+    @ParameterizedTest
+    @MethodSource("casesWriteBook")
+    @DisplayName("Method openWriter appends batches without closing the destination")
+    void testWriterSession(String fName,
+                           String encoding,
+                           String quoteCharacter,
+                           String valuesDelimiter,
+                           String headerLine,
+                           List<Book> books) throws IOException {
+        csvStorage = new CsvStorageImpl(Map.of("encoding", encoding,
+                "quoteCharacter", quoteCharacter,
+                "valuesDelimiter", valuesDelimiter,
+                "headerLine", headerLine));
+        boolean[] closed = new boolean[1];
+        ByteArrayOutputStream out = new ByteArrayOutputStream() {
+            @Override
+            public void close() throws IOException {
+                closed[0] = true;
+                super.close();
+            }
+        };
+        try (CsvWriter<Book> writer = csvStorage.openWriter(out, mapper::bookToCsv)) {
+            writer.write(books.get(0));
+            writer.writeAll(books.subList(1, 2));
+            writer.flush();
+            writer.writeAll(books.subList(2, books.size()).stream());
+        }
+        assertFalse(closed[0], "The destination must stay open after the session ends.");
+        String expected = Files.readString(Path.of(fName), Charset.forName(encoding));
+        assertEquals(expected, out.toString(Charset.forName(encoding)),
+                "Some content are not equal. Check your realization.");
+    }
+
+    @ParameterizedTest
+    @MethodSource("casesReadBook")
+    @DisplayName("Method read launched on a mapped file for Book [parallel csv->object conversion tested]")
+    void testParallelReadBook(String fName,
+                              String encoding,
+                              String quoteCharacter,
+                              String valuesDelimiter,
+                              String headerLine,
+                              List<Book> expected) throws IOException {
+        csvStorage = new CsvStorageImpl(Map.of("encoding", encoding,
+                "quoteCharacter", quoteCharacter,
+                "valuesDelimiter", valuesDelimiter,
+                "headerLine", headerLine));
+        List<Book> actual = csvStorage.read(Path.of(fName), mapper::csvToBook, 4);
+        assertIterableEquals(expected, actual,
+                "Some content are not equal. Check your realization.");
+    }
+
+    @Test
+    @DisplayName("Method read on a mapped file keeps file order and quoted line breaks across chunks")
+    void testParallelReadLargeFile(@TempDir Path dir) throws IOException {
+        csvStorage = new CsvStorageImpl(Map.of("quoteCharacter", "'", "valuesDelimiter", ";"));
+        List<Employee> expected = new ArrayList<>();
+        StringBuilder data = new StringBuilder("id;email;password;name;phone;birthDate\r\n");
+        for (int i = 1; i <= 20_000; i++) {
+            String password = i % 7 == 0 ? "p;" + i + "\nsecond line" : "p" + i;
+            expected.add(new Employee(i, "e" + i + "@store.com", password, "Name " + i,
+                    "555-" + i, LocalDate.of(1990, 1, 1).plusDays(i)));
+            data.append(i).append(";e").append(i).append("@store.com;'").append(password)
+                    .append("';Name ").append(i).append(";555-").append(i).append(';')
+                    .append(LocalDate.of(1990, 1, 1).plusDays(i)).append(i % 2 == 0 ? "\n" : "\r\n");
+        }
+        Path file = dir.resolve("employees.csv");
+        Files.writeString(file, data);
+
+        assertIterableEquals(expected, csvStorage.read(file, mapper::csvToEmployee, 8));
+        assertIterableEquals(expected, csvStorage.read(file, mapper::csvToEmployee, 1));
+    }
+
+    @ParameterizedTest
+    @MethodSource("casesReadClient")
+    @DisplayName("Method readBytes launched for Client [byte row->object conversion tested]")
+    void testReadBytesClient(String fName,
+                      String encoding,
+                      String quoteCharacter,
+                      String valuesDelimiter,
+                      String headerLine,
+                      List<Client> expected) throws IOException {
+        csvStorage = new CsvStorageImpl(Map.of("encoding", encoding,
+                "quoteCharacter", quoteCharacter,
+                "valuesDelimiter", valuesDelimiter,
+                "headerLine", headerLine));
+        List<Client> actual = new ArrayList<>();
+        csvStorage.readBytes(new FileInputStream(fName), row -> actual.add(mapper.csvToClient(row)));
+        assertIterableEquals(expected, actual,
+                "Some content are not equal. Check your realization.");
+    }
+
+    @ParameterizedTest
+    @MethodSource("casesReadEmployee")
+    @DisplayName("Method readBytes launched for Employee [byte row->object conversion tested]")
+    void testReadBytesEmployee(String fName,
+                      String encoding,
+                      String quoteCharacter,
+                      String valuesDelimiter,
+                      String headerLine,
+                      List<Employee> expected) throws IOException {
+        csvStorage = new CsvStorageImpl(Map.of("encoding", encoding,
+                "quoteCharacter", quoteCharacter,
+                "valuesDelimiter", valuesDelimiter,
+                "headerLine", headerLine));
+        List<Employee> actual = new ArrayList<>();
+        csvStorage.readBytes(new FileInputStream(fName), row -> actual.add(mapper.csvToEmployee(row)));
+        assertIterableEquals(expected, actual,
+                "Some content are not equal. Check your realization.");
+    }
+
+    @ParameterizedTest
+    @MethodSource("casesReadBook")
+    @DisplayName("Method readBytes launched for Book [byte row->object conversion tested]")
+    void testReadBytesBook(String fName,
+                      String encoding,
+                      String quoteCharacter,
+                      String valuesDelimiter,
+                      String headerLine,
+                      List<Book> expected) throws IOException {
+        csvStorage = new CsvStorageImpl(Map.of("encoding", encoding,
+                "quoteCharacter", quoteCharacter,
+                "valuesDelimiter", valuesDelimiter,
+                "headerLine", headerLine));
+        List<Book> actual = new ArrayList<>();
+        csvStorage.readBytes(new FileInputStream(fName), row -> actual.add(mapper.csvToBook(row)));
+        assertIterableEquals(expected, actual,
+                "Some content are not equal. Check your realization.");
+    }
+
+    @ParameterizedTest
+    @MethodSource("casesReadOrder")
+    @DisplayName("Method readBytes launched for Order [byte row->object conversion tested]")
+    void testReadBytesOrder(String fName,
+                      String encoding,
+                      String quoteCharacter,
+                      String valuesDelimiter,
+                      String headerLine,
+                      List<Order> expected) throws IOException {
+        csvStorage = new CsvStorageImpl(Map.of("encoding", encoding,
+                "quoteCharacter", quoteCharacter,
+                "valuesDelimiter", valuesDelimiter,
+                "headerLine", headerLine));
+        List<Order> actual = new ArrayList<>();
+        csvStorage.readBytes(new FileInputStream(fName), row -> actual.add(mapper.csvToOrder(row)));
+        assertIterableEquals(expected, actual,
+                "Some content are not equal. Check your realization.");
+    }
+
+    @Test
+    @DisplayName("Method readBytes matches read across buffer refills and line endings")
+    void testReadBytesLargeInput() throws IOException {
+        csvStorage = new CsvStorageImpl(Map.of("quoteCharacter", "'", "valuesDelimiter", ";"));
+        StringBuilder data = new StringBuilder("id;clientId;employeeId;bookId;numberOfBooks;orderDate;price\r\n");
+        for (int i = 0; i < 30_000; i++) {
+            data.append(i).append(';').append(-i % 97).append(";'").append(i % 13).append("';")
+                    .append(i * 31L).append(';').append(i % 50).append(";2021-11-11T10:")
+                    .append(10 + i % 40).append(';').append(i % 3 == 0 ? "" : i + "." + i % 100)
+                    .append(i % 2 == 0 ? "\r\n" : "\n");
+        }
+        byte[] bytes = data.toString().getBytes();
+        List<Order> expected = csvStorage.read(new ByteArrayInputStream(bytes), mapper::csvToOrder);
+        List<Order> actual = new ArrayList<>();
+        csvStorage.readBytes(new ByteArrayInputStream(bytes), row -> actual.add(mapper.csvToOrder(row)));
+        assertIterableEquals(expected, actual);
+    }
+
+    @Test
+    @DisplayName("Mapper default byte row methods decode like the String[] methods")
+    void testReadBytesDefaultMapper() throws IOException {
+        Mapper stringMapper = new Mapper() {
+            @Override public Client csvToClient(String[] values) { return mapper.csvToClient(values); }
+            @Override public Employee csvToEmployee(String[] values) { return mapper.csvToEmployee(values); }
+            @Override public Book csvToBook(String[] values) { return mapper.csvToBook(values); }
+            @Override public Order csvToOrder(String[] values) { return mapper.csvToOrder(values); }
+            @Override public String[] orderToCsv(Order order) { return mapper.orderToCsv(order); }
+            @Override public String[] bookToCsv(Book book) { return mapper.bookToCsv(book); }
+            @Override public String[] clientToCsv(Client client) { return mapper.clientToCsv(client); }
+            @Override public String[] employeeToCsv(Employee employee) { return mapper.employeeToCsv(employee); }
+        };
+        csvStorage = new CsvStorageImpl(Map.of("encoding", "cp1251", "quoteCharacter", "'",
+                "valuesDelimiter", ";", "headerLine", "false"));
+        String fName = "src/test/resources/service/books.csv";
+        List<Book> expected = csvStorage.read(new FileInputStream(fName), mapper::csvToBook);
+        List<Book> actual = new ArrayList<>();
+        csvStorage.readBytes(new FileInputStream(fName), row -> actual.add(stringMapper.csvToBook(row)));
+        assertIterableEquals(expected, actual);
+    }
+
+    @Test
+    @DisplayName("Method readBytes treats whitespace-only fields as empty")
+    void testReadBytesWhitespaceField() throws IOException {
+        csvStorage = new CsvStorageImpl(Map.of("quoteCharacter", "'", "valuesDelimiter", ";"));
+        byte[] data = "id;name;price\n  7 ;   ; \t\n".getBytes();
+        List<Object[]> actual = new ArrayList<>();
+        csvStorage.readBytes(new ByteArrayInputStream(data), row -> actual.add(new Object[]{
+                row.getLong(0), row.isEmpty(1), row.getString(1), row.getLong(1), row.getDecimal(2)}));
+        assertEquals(1, actual.size());
+        assertArrayEquals(new Object[]{7L, true, "", 0L, null}, actual.get(0));
+    }
+
+    public static Stream<Arguments> casesReadProjection() {
+        String data = """
+                id;clientId;employeeId;bookId;numberOfBooks;orderDate;price
+                1;7;'3';9;2;2022-09-04T00:00;114.5
+                2;8;;;;;
+                """;
+        return Stream.of(
+                Arguments.of(data, CsvProjection.names("bookId", " NUMBEROFBOOKS", "price"), List.of(
+                        new Order(0, 0, 0, 9, 2, null, new BigDecimal("114.5")),
+                        new Order(0, 0, 0, 0, 0, null, null))),
+                Arguments.of(data, CsvProjection.columns(0, 5), List.of(
+                        new Order(1, 0, 0, 0, 0, LocalDateTime.of(2022, 9, 4, 0, 0), null),
+                        new Order(2, 0, 0, 0, 0, null, null))),
+                Arguments.of(data, CsvProjection.columns(2, 42), List.of(
+                        new Order(0, 0, 3, 0, 0, null, null),
+                        new Order(0, 0, 0, 0, 0, null, null)))
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("casesReadProjection")
+    @DisplayName("Method read with a projection only materializes the projected columns")
+    void testReadProjection(String data, CsvProjection projection, List<Order> expected) throws IOException {
+        csvStorage = new CsvStorageImpl(Map.of("quoteCharacter", "'", "valuesDelimiter", ";"));
+        List<String[]> rows = new ArrayList<>();
+        List<Order> actual = csvStorage.read(new ByteArrayInputStream(data.getBytes()), values -> {
+            rows.add(values);
+            return mapper.csvToOrder(values);
+        }, projection);
+        assertIterableEquals(expected, actual,
+                "Some content are not equal. Check your realization.");
+        assertEquals(7, rows.get(0).length);
+        assertNull(rows.get(0)[1]);
+    }
+
+    @Test
+    @DisplayName("Method read rejects a projection by unknown name")
+    void testReadProjectionUnknownName() {
+        csvStorage = new CsvStorageImpl(Map.of("quoteCharacter", "'", "valuesDelimiter", ";"));
+        byte[] data = "id;name\n1;a\n".getBytes();
+        assertThrows(IllegalArgumentException.class, () -> csvStorage.read(new ByteArrayInputStream(data),
+                values -> values, CsvProjection.names("price")));
+    }
+
+    @Test
+    @DisplayName("Method read with a row filter maps only the accepted records")
+    void testReadFiltered() throws IOException {
+        csvStorage = new CsvStorageImpl(Map.of("quoteCharacter", "'", "valuesDelimiter", ";"));
+        StringBuilder data = new StringBuilder("id;clientId;employeeId;bookId;numberOfBooks;orderDate;price\n");
+        for (int i = 1; i <= 1_000; i++) {
+            data.append(i).append(';').append(i % 7).append(";'").append(i % 5).append("';")
+                    .append(i % 11).append(';').append(i % 4).append(";2021-")
+                    .append(String.format(Locale.ROOT, "%02d", 1 + i % 12)).append("-01T10:00;").append(i).append(".5\n");
+        }
+        byte[] bytes = data.toString().getBytes();
+        LocalDateTime after = LocalDateTime.parse("2021-10-01T00:00");
+        List<Order> expected = csvStorage.read(new ByteArrayInputStream(bytes), mapper::csvToOrder).stream()
+                .filter(order -> order.getOrderDate().isAfter(after) && order.getEmployeeId() != 0)
+                .toList();
+        List<String[]> mapped = new ArrayList<>();
+        List<Order> actual = csvStorage.read(new ByteArrayInputStream(bytes),
+                row -> row.getDateTime(5).isAfter(after) && row.getLong(2) != 0,
+                values -> {
+                    mapped.add(values);
+                    return mapper.csvToOrder(values);
+                });
+        assertIterableEquals(expected, actual);
+        assertEquals(expected.size(), mapped.size());
+    }
+
+    @ParameterizedTest
+    @MethodSource("casesWriteBook")
+    @DisplayName("Method write with parallelism produces the same bytes as the sequential write")
+    void testParallelWriteBook(String fName,
+                               String encoding,
+                               String quoteCharacter,
+                               String valuesDelimiter,
+                               String headerLine,
+                               List<Book> books) throws IOException {
+        csvStorage = new CsvStorageImpl(Map.of("encoding", encoding,
+                "quoteCharacter", quoteCharacter,
+                "valuesDelimiter", valuesDelimiter,
+                "headerLine", headerLine));
+        List<Book> many = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            many.addAll(books);
+        }
+        for (List<Book> values : List.of(books, many)) {
+            ByteArrayOutputStream sequential = new ByteArrayOutputStream();
+            csvStorage.write(sequential, values, mapper::bookToCsv);
+            ByteArrayOutputStream parallel = new ByteArrayOutputStream();
+            csvStorage.write(parallel, values, mapper::bookToCsv, 4);
+            assertArrayEquals(sequential.toByteArray(), parallel.toByteArray());
+        }
+    }
 }
@@ -0,0 +1,104 @@
+package com.epam.rd.autocode.assessment.basics.service;
+
+import com.epam.rd.autocode.assessment.basics.entity.Order;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CsvTailReaderTest {
+    private static final String HEADER = "id,clientId,employeeId,bookId,numberOfBooks,orderDate,price\n";
+
+    @Test
+    @DisplayName("Poll reads only completed records and holds back a partial line")
+    void testPollIncremental(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("orders.csv");
+        List<Long> ids = new ArrayList<>();
+        try (CsvTailReader<Order> reader = new CsvStorageImpl().follow(file, new MapperImpl()::csvToOrder,
+                order -> ids.add(order.getId()))) {
+            assertEquals(0, reader.poll());
+
+            append(file, HEADER + "1,10,100,1000,1,2024-01-01T10:00,1.50\n2,20,2");
+            assertEquals(1, reader.poll());
+            assertEquals(List.of(1L), ids);
+            long offset = reader.getOffset();
+            assertEquals(0, reader.poll());
+
+            append(file, "00,2000,2,2024-01-02T10:00,2.50\r\n3,30,300,3000,3,2024-01-03T10:00,'3.50'\r");
+            assertEquals(1, reader.poll());
+            assertEquals(List.of(1L, 2L), ids);
+            assertTrue(reader.getOffset() > offset);
+
+            append(file, "\n");
+            assertEquals(1, reader.poll());
+            assertEquals(List.of(1L, 2L, 3L), ids);
+            assertEquals(Files.size(file), reader.getOffset());
+        }
+    }
+
+    @Test
+    @DisplayName("A truncated file is read again from the start")
+    void testTruncated(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("orders.csv");
+        List<Long> ids = new ArrayList<>();
+        try (CsvTailReader<Order> reader = new CsvStorageImpl().follow(file, new MapperImpl()::csvToOrder,
+                order -> ids.add(order.getId()))) {
+            append(file, HEADER + "1,10,100,1000,1,2024-01-01T10:00,1.50\n2,20,200,2000,2,2024-01-02T10:00,2.50\n");
+            assertEquals(2, reader.poll());
+            Files.writeString(file, HEADER + "7,10,100,1000,1,2024-01-01T10:00,1.50\n");
+            assertEquals(1, reader.poll());
+            assertEquals(List.of(1L, 2L, 7L), ids);
+        }
+    }
+
+    @Test
+    @DisplayName("Blank lines are delivered like read maps them")
+    void testBlankLines(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("orders.csv");
+        String data = HEADER + "1,10,100,1000,1,2024-01-01T10:00,1.50\n\r\n2,20\n\n";
+        append(file, data);
+        CsvStorageImpl csvStorage = new CsvStorageImpl();
+        List<String> expected = csvStorage.read(Files.newInputStream(file), values -> String.join("|", values));
+        List<String> actual = new ArrayList<>();
+        try (CsvTailReader<String> reader = csvStorage.follow(file, values -> String.join("|", values), actual::add)) {
+            assertEquals(4, reader.poll());
+        }
+        assertEquals(List.of("1|10|100|1000|1|2024-01-01T10:00|1.50", "", "2|20", ""), expected);
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    @DisplayName("Started reader delivers appended records in the background")
+    void testStart(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("orders.csv");
+        List<Long> ids = new CopyOnWriteArrayList<>();
+        append(file, HEADER);
+        try (CsvTailReader<Order> reader = new CsvStorageImpl().follow(file, new MapperImpl()::csvToOrder,
+                order -> ids.add(order.getId()))) {
+            reader.start(Duration.ofMillis(20));
+            for (int i = 1; i <= 5; i++) {
+                append(file, i + ",10,100,1000,1,2024-01-01T10:00,1.50\n");
+            }
+            long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+            while (ids.size() < 5 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+        }
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), ids);
+    }
+
+    private static void append(Path file, String text) throws IOException {
+        Files.writeString(file, text, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+}
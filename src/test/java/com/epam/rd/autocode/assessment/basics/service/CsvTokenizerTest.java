@@ -0,0 +1,88 @@
+package com.epam.rd.autocode.assessment.basics.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.lang.management.ManagementFactory;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class CsvTokenizerTest {
+
+    public static Stream<Arguments> casesTokenize() {
+        return Stream.of(
+                Arguments.of("1;The Great Gatsby;Classics", new String[]{"1", "The Great Gatsby", "Classics"}),
+                Arguments.of("  a ; b  ;c ", new String[]{"a", "b", "c"}),
+                Arguments.of(";'';'';;", new String[]{"", "''", "''", "", ""}),
+                Arguments.of("1;admin@vpa.com;'kY$60;25,IL';x", new String[]{"1", "admin@vpa.com", "kY$60;25,IL", "x"}),
+                Arguments.of("'it''s';'a'';b'", new String[]{"it's", "a';b"}),
+                Arguments.of("'''';x", new String[]{"'", "x"}),
+                Arguments.of("'ab';'';''''''", new String[]{"ab", "''", "'"}),
+                Arguments.of("'Haruki Murakami;607;x", new String[]{"Haruki Murakami;607;x"}),
+                Arguments.of("'a' b;c", new String[]{"a b", "c"}),
+                Arguments.of("x'y'z;w", new String[]{"xyz", "w"}),
+                Arguments.of("", new String[]{""}),
+                Arguments.of(";", new String[]{"", ""}),
+                Arguments.of("'' ;  ''", new String[]{"''", "''"}),
+                Arguments.of("'a''';b", new String[]{"a'''", "b"})
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("casesTokenize")
+    @DisplayName("Tokenizer splits, trims and unquotes fields")
+    void testTokenize(String line, String[] expected) {
+        CsvTokenizer tokenizer = new CsvTokenizer("'", ";");
+        tokenizer.tokenize(line);
+        assertArrayEquals(expected, tokenizer.toArray(),
+                "Some content are not equal. Check your realization.");
+    }
+
+    @Test
+    @DisplayName("Tokenizer returns the line itself for a single unquoted field")
+    void testNoCopyForWholeLine() {
+        CsvTokenizer tokenizer = new CsvTokenizer("'", ";");
+        String line = "The Great Gatsby";
+        tokenizer.tokenize(line);
+        assertSame(line, tokenizer.field(0));
+    }
+
+    @Test
+    @DisplayName("Tokenizer does not allocate in steady state")
+    void testSteadyStateAllocation() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean, "Allocation counters are not available");
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled(),
+                "Allocation counters are disabled");
+
+        String[] lines = {
+                "6;The Wind-Up Bird Chronicle;Contemporary Fiction;ADULT;12.25;2022-01-05;Haruki Murakami;607;Surrealism;A mans search for his missing wife;JAPANESE",
+                "1;admin@vpa.com;'kY$60;25,IL';Admin;111-602-23-00;1996-07-03",
+                ";'';'';;;;'';;'';'';"
+        };
+        CsvTokenizer tokenizer = new CsvTokenizer("'", ";");
+        long fields = 0;
+        for (int i = 0; i < 100_000; i++) {
+            fields += tokenizer.tokenize(lines[i % lines.length]);
+        }
+
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < 100_000; i++) {
+            fields += tokenizer.tokenize(lines[i % lines.length]);
+        }
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+        assertTrue(fields > 0);
+        // Leaves room for the counter call itself, far below one byte per tokenized line
+        assertTrue(allocated < 10_000, "Tokenizing allocated " + allocated + " bytes");
+    }
+}
@@ -0,0 +1,134 @@
+package com.epam.rd.autocode.assessment.basics.service;
+
+import com.epam.rd.autocode.assessment.basics.entity.Book;
+import com.epam.rd.autocode.assessment.basics.entity.Client;
+import com.epam.rd.autocode.assessment.basics.entity.Employee;
+import com.epam.rd.autocode.assessment.basics.entity.Order;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertIterableEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class EntityCodecTest {
+    private static Mapper mapper;
+
+    @BeforeAll
+    static void globalSetup() {
+        mapper = new MapperImpl();
+    }
+
+    @ParameterizedTest
+    @MethodSource("com.epam.rd.autocode.assessment.basics.service.MapperTest#casesCsvToBook")
+    @DisplayName("Codec reads books like the mapper")
+    void testReadBook(String[] values, Book expected) {
+        assertEquals(expected, EntityCodec.books().reader().apply(values));
+    }
+
+    @ParameterizedTest
+    @MethodSource("com.epam.rd.autocode.assessment.basics.service.MapperTest#casesCsvToClient")
+    @DisplayName("Codec reads clients like the mapper")
+    void testReadClient(String[] values, Client expected) {
+        assertEquals(expected, EntityCodec.clients().reader().apply(values));
+    }
+
+    @ParameterizedTest
+    @MethodSource("com.epam.rd.autocode.assessment.basics.service.MapperTest#casesCsvToEmployee")
+    @DisplayName("Codec reads employees like the mapper")
+    void testReadEmployee(String[] values, Employee expected) {
+        assertEquals(expected, EntityCodec.employees().reader().apply(values));
+    }
+
+    @ParameterizedTest
+    @MethodSource("com.epam.rd.autocode.assessment.basics.service.MapperTest#casesCsvToOrder")
+    @DisplayName("Codec reads orders like the mapper")
+    void testReadOrder(String[] values, Order expected) {
+        assertEquals(expected, EntityCodec.orders().reader().apply(values));
+    }
+
+    @ParameterizedTest
+    @MethodSource("com.epam.rd.autocode.assessment.basics.service.MapperTest#casesBookToCsv")
+    @DisplayName("Codec writes books like the mapper")
+    void testWriteBook(Book book, String[] expected) {
+        assertArrayEquals(mapper.bookToCsv(book), EntityCodec.books().writer().apply(book));
+    }
+
+    @ParameterizedTest
+    @MethodSource("com.epam.rd.autocode.assessment.basics.service.MapperTest#casesClientToCsv")
+    @DisplayName("Codec writes clients like the mapper")
+    void testWriteClient(Client client, String[] expected) {
+        assertArrayEquals(mapper.clientToCsv(client), EntityCodec.clients().writer().apply(client));
+    }
+
+    @ParameterizedTest
+    @MethodSource("com.epam.rd.autocode.assessment.basics.service.MapperTest#casesEmployeeToCsv")
+    @DisplayName("Codec writes employees like the mapper")
+    void testWriteEmployee(Employee employee, String[] expected) {
+        assertArrayEquals(mapper.employeeToCsv(employee), EntityCodec.employees().writer().apply(employee));
+    }
+
+    @ParameterizedTest
+    @MethodSource("com.epam.rd.autocode.assessment.basics.service.MapperTest#casesOrderToCsv")
+    @DisplayName("Codec writes orders like the mapper")
+    void testWriteOrder(Order order, String[] expected) {
+        assertArrayEquals(mapper.orderToCsv(order), EntityCodec.orders().writer().apply(order));
+    }
+
+    public static Stream<Arguments> casesHeaderRead() {
+        return Stream.of(
+                Arguments.of(
+                        """
+                                id,email,password,name,balance
+                                1,a@a.a,p,n,1
+                                """,
+                        List.of(new Client(1, "a@a.a", "p", "n", new BigDecimal("1")))
+                ),
+                Arguments.of(
+                        """
+                                Balance, NAME ,id,email,password
+                                1,n,1,a@a.a,p
+                                ,,,,
+                                """,
+                        List.of(
+                                new Client(1, "a@a.a", "p", "n", new BigDecimal("1")),
+                                new Client(0, null, null, null, null))
+                ),
+                Arguments.of(
+                        """
+                                name,notes,id
+                                n,skipped,7
+                                """,
+                        List.of(new Client(7, null, null, "n", null))
+                )
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("casesHeaderRead")
+    @DisplayName("Read binds the codec to the header line")
+    void testHeaderRead(String data, List<Client> expected) throws IOException {
+        CsvStorage csvStorage = new CsvStorageImpl();
+        List<Client> clients = csvStorage.read(new ByteArrayInputStream(data.getBytes()), EntityCodec.clients());
+        assertIterableEquals(expected, clients,
+                "Some content are not equal. Check your realization.");
+    }
+
+    @Test
+    @DisplayName("Writer rejects unknown columns")
+    void testUnknownWriterColumn() {
+        assertThrows(IllegalArgumentException.class,
+                () -> EntityCodec.clients().writer(new String[]{"id", "notes"}));
+    }
+}
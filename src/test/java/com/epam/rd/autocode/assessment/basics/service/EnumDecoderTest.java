@@ -0,0 +1,96 @@
+package com.epam.rd.autocode.assessment.basics.service;
+
+import com.epam.rd.autocode.assessment.basics.entity.enums.AgeGroup;
+import com.epam.rd.autocode.assessment.basics.entity.enums.Language;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class EnumDecoderTest {
+
+    public static Stream<Arguments> casesDecode() {
+        return Stream.of(
+                Arguments.of("ADULT", AgeGroup.ADULT),
+                Arguments.of("child", AgeGroup.CHILD),
+                Arguments.of("  Teen ", AgeGroup.TEEN),
+                Arguments.of("oThEr", AgeGroup.OTHER),
+                Arguments.of("", null),
+                Arguments.of("   ", null)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("casesDecode")
+    @DisplayName("Decoder matches constants ignoring case and surrounding spaces")
+    void testDecode(String value, AgeGroup expected) {
+        EnumDecoder<AgeGroup> decoder = EnumDecoder.of(AgeGroup.class);
+        assertSame(expected, decoder.decode(value));
+        ByteBuffer bytes = ByteBuffer.wrap(("x;" + value + ";y").getBytes(StandardCharsets.US_ASCII));
+        assertSame(expected, decoder.decode(bytes, 2, 2 + value.length(), StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    @DisplayName("Decoder finds every constant")
+    void testAllConstants() {
+        for (Language language : Language.values()) {
+            assertSame(language, EnumDecoder.of(Language.class).decode(language.name().toLowerCase()));
+        }
+        for (AgeGroup ageGroup : AgeGroup.values()) {
+            assertSame(ageGroup, EnumDecoder.of(AgeGroup.class).decode(ageGroup.name()));
+        }
+    }
+
+    public static Stream<Arguments> casesUnknown() {
+        return Stream.of(
+                Arguments.of("ADULTS"),
+                Arguments.of("ENGLISH"),
+                Arguments.of("''"),
+                Arguments.of("AD ULT")
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("casesUnknown")
+    @DisplayName("Decoder reports unknown values without a stack trace")
+    void testUnknown(String value) {
+        UnknownEnumValueException e = assertThrows(UnknownEnumValueException.class,
+                () -> EnumDecoder.of(AgeGroup.class).decode(value));
+        assertEquals(0, e.getStackTrace().length);
+        assertEquals(value, e.getValue());
+        assertNull(EnumDecoder.of(AgeGroup.class).find(value, 0, value.length()));
+        assertThrows(IllegalArgumentException.class,
+                () -> new MapperImpl().csvToBook(new String[]{"1", "n", "g", value, "1", "", "a", "1", "c", "d", "ENGLISH"}));
+    }
+
+    @Test
+    @DisplayName("Unknown bytes are reported in the reader's charset")
+    void testUnknownBytes() {
+        String value = "Дорослий";
+        ByteBuffer bytes = ByteBuffer.wrap(value.getBytes(StandardCharsets.UTF_8));
+        UnknownEnumValueException e = assertThrows(UnknownEnumValueException.class,
+                () -> EnumDecoder.of(AgeGroup.class).decode(bytes, 0, bytes.limit(), StandardCharsets.UTF_8));
+        assertEquals(value, e.getValue());
+    }
+
+    @Test
+    @DisplayName("Decoder rejects an enum whose constants differ only in case")
+    void testCaseClash() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> EnumDecoder.of(Shade.class));
+        assertEquals("Constants Red and RED of " + Shade.class.getName() + " differ only in case", e.getMessage());
+    }
+
+    private enum Shade {
+        Red, GREEN, RED
+    }
+}
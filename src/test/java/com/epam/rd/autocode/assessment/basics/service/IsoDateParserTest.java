@@ -0,0 +1,97 @@
+package com.epam.rd.autocode.assessment.basics.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class IsoDateParserTest {
+
+    public static Stream<Arguments> casesDate() {
+        return Stream.of(
+                Arguments.of("2022-09-04"),
+                Arguments.of("1996-02-29"),
+                Arguments.of("0000-01-01"),
+                Arguments.of("+12345-01-01"),
+                Arguments.of("1997-02-29"),
+                Arguments.of("2022-13-01"),
+                Arguments.of("2022-00-10"),
+                Arguments.of("2022-9-04"),
+                Arguments.of("2022/09/04"),
+                Arguments.of("20x2-09-04")
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("casesDate")
+    @DisplayName("Date parser agrees with LocalDate.parse")
+    void testDate(String value) {
+        assertSameOutcome(() -> LocalDate.parse(value),
+                () -> IsoDateParser.parseDate("x;" + value, 2, value.length() + 2));
+        ByteBuffer bytes = ByteBuffer.wrap(value.getBytes(StandardCharsets.US_ASCII));
+        assertSameOutcome(() -> LocalDate.parse(value), () -> IsoDateParser.parseDate(bytes, 0, value.length()));
+    }
+
+    public static Stream<Arguments> casesDateTime() {
+        return Stream.of(
+                Arguments.of("2022-09-04T00:00"),
+                Arguments.of("2021-11-11T10:10"),
+                Arguments.of("2021-11-11T23:59:59"),
+                Arguments.of("2021-11-11T10:10:05.250"),
+                Arguments.of("2021-11-11t10:10"),
+                Arguments.of("2021-11-11T24:00"),
+                Arguments.of("2021-11-11T10:60"),
+                Arguments.of("2021-11-11T10:10:60"),
+                Arguments.of("2021-11-11 10:10"),
+                Arguments.of("2021-02-30T10:10"),
+                Arguments.of("2021-11-11T10:10:5")
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("casesDateTime")
+    @DisplayName("Date-time parser agrees with LocalDateTime.parse")
+    void testDateTime(String value) {
+        assertSameOutcome(() -> LocalDateTime.parse(value),
+                () -> IsoDateParser.parseDateTime(value + ";x", 0, value.length()));
+        ByteBuffer bytes = ByteBuffer.wrap(value.getBytes(StandardCharsets.US_ASCII));
+        assertSameOutcome(() -> LocalDateTime.parse(value),
+                () -> IsoDateParser.parseDateTime(bytes, 0, value.length()));
+    }
+
+    @Test
+    @DisplayName("Parser answers a repeated value from its cache")
+    void testCache() {
+        LocalDateTime first = IsoDateParser.parseDateTime("2023-05-06T07:08:09", 0, 19);
+        assertSame(first, IsoDateParser.parseDateTime("2023-05-06T07:08:09", 0, 19));
+        LocalDate date = IsoDateParser.parseDate("2023-05-06", 0, 10);
+        assertSame(date, IsoDateParser.parseDate(ByteBuffer.wrap("2023-05-06".getBytes()), 0, 10));
+    }
+
+    private static void assertSameOutcome(Parse expected, Parse actual) {
+        Object value;
+        try {
+            value = expected.run();
+        } catch (DateTimeParseException e) {
+            assertThrows(DateTimeParseException.class, actual::run);
+            return;
+        }
+        assertEquals(value, actual.run());
+    }
+
+    private interface Parse {
+        Object run();
+    }
+}
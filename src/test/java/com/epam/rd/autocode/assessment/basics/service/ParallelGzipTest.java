@@ -0,0 +1,154 @@
+package com.epam.rd.autocode.assessment.basics.service;
+
+import com.epam.rd.autocode.assessment.basics.entity.Order;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipException;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ParallelGzipTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 999, 1000, 1001, 123_457})
+    @DisplayName("Block output is readable by GZIPInputStream and by the parallel reader")
+    void testRoundTrip(int size) throws IOException {
+        byte[] data = sample(size);
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (OutputStream out = new ParallelGzipOutputStream(compressed, 3, 1000, 6)) {
+            out.write(data, 0, data.length / 2);
+            out.flush();
+            out.write(data, data.length / 2, data.length - data.length / 2);
+        }
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed.toByteArray()))) {
+            assertArrayEquals(data, in.readAllBytes());
+        }
+        try (InputStream in = new ParallelGzipInputStream(new ByteArrayInputStream(compressed.toByteArray()), 3)) {
+            assertArrayEquals(data, in.readAllBytes());
+        }
+    }
+
+    @Test
+    @DisplayName("Plain gzip and mixed member files fall back to streaming decompression")
+    void testForeignMembers() throws IOException {
+        byte[] first = sample(5000);
+        byte[] second = sample(3000);
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (OutputStream out = new ParallelGzipOutputStream(compressed, 2, 1024, 6)) {
+            out.write(first);
+        }
+        byte[] blocks = compressed.toByteArray();
+        ByteArrayOutputStream plain = new ByteArrayOutputStream();
+        try (OutputStream out = new GZIPOutputStream(plain)) {
+            out.write(second);
+        }
+        ByteArrayOutputStream mixed = new ByteArrayOutputStream();
+        mixed.write(blocks);
+        mixed.write(plain.toByteArray());
+
+        try (InputStream in = new ParallelGzipInputStream(new ByteArrayInputStream(plain.toByteArray()), 2)) {
+            assertArrayEquals(second, in.readAllBytes());
+        }
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        expected.write(first);
+        expected.write(second);
+        try (InputStream in = new ParallelGzipInputStream(new ByteArrayInputStream(mixed.toByteArray()), 2)) {
+            assertArrayEquals(expected.toByteArray(), in.readAllBytes());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 7, 512})
+    @DisplayName("Padding after the last block is ignored like GZIPInputStream does")
+    void testTrailingPadding(int padding) throws IOException {
+        byte[] data = sample(5000);
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (OutputStream out = new ParallelGzipOutputStream(compressed, 2, 1024, 6)) {
+            out.write(data);
+        }
+        compressed.write(new byte[padding]);
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed.toByteArray()))) {
+            assertArrayEquals(data, in.readAllBytes());
+        }
+        try (InputStream in = new ParallelGzipInputStream(new ByteArrayInputStream(compressed.toByteArray()), 2)) {
+            assertArrayEquals(data, in.readAllBytes());
+        }
+    }
+
+    @Test
+    @DisplayName("A corrupted block is reported")
+    void testCorruptBlock() throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (OutputStream out = new ParallelGzipOutputStream(compressed, 2, 1024, 6)) {
+            out.write(sample(4000));
+        }
+        byte[] bytes = compressed.toByteArray();
+        bytes[bytes.length - 6] ^= 1;
+        try (InputStream in = new ParallelGzipInputStream(new ByteArrayInputStream(bytes), 2)) {
+            assertThrows(ZipException.class, in::readAllBytes);
+        }
+    }
+
+    @Test
+    @DisplayName("An oversized block length is rejected before it is allocated")
+    void testOversizedBlock() throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (OutputStream out = new ParallelGzipOutputStream(compressed, 2, 1024, 6)) {
+            out.write(sample(4000));
+        }
+        byte[] bytes = compressed.toByteArray();
+        bytes[16] = (byte) 0xff;
+        bytes[17] = (byte) 0xff;
+        bytes[18] = (byte) 0xff;
+        bytes[19] = 0x7f;
+        try (InputStream in = new ParallelGzipInputStream(new ByteArrayInputStream(bytes), 2)) {
+            assertThrows(ZipException.class, in::readAllBytes);
+        }
+        assertThrows(IllegalArgumentException.class, () -> new ParallelGzipOutputStream(compressed, 2,
+                ParallelGzipOutputStream.MAX_BLOCK_SIZE + 1, 6));
+    }
+
+    @Test
+    @DisplayName("Csv storage reads and writes through the block streams")
+    void testCsvRoundTrip() throws IOException {
+        CsvStorageImpl csvStorage = new CsvStorageImpl();
+        Mapper mapper = new MapperImpl();
+        String data = """
+                id,clientId,employeeId,bookId,numberOfBooks,orderDate,price
+                1,10,100,1000,1,2024-01-01T10:00,1.50
+                2,20,200,2000,2,2024-01-02T10:00,2.50
+                """;
+        List<Order> orders = csvStorage.read(new ByteArrayInputStream(data.getBytes()), mapper::csvToOrder);
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        csvStorage.write(new ParallelGzipOutputStream(compressed, 2, 16, 6), orders, mapper::orderToCsv);
+        CsvStorageImpl headerless = new CsvStorageImpl(Map.of("quoteCharacter", "'", "valuesDelimiter", ",",
+                "headerLine", "false"));
+        List<Order> read = headerless.read(new ParallelGzipInputStream(
+                new ByteArrayInputStream(compressed.toByteArray()), 2), mapper::csvToOrder);
+        assertEquals(orders, read);
+    }
+
+    private static byte[] sample(int size) {
+        Random random = new Random(size);
+        byte[] data = new byte[size];
+        for (int i = 0; i < size; i++) {
+            data[i] = (byte) ('a' + random.nextInt(random.nextBoolean() ? 3 : 26));
+        }
+        return data;
+    }
+}
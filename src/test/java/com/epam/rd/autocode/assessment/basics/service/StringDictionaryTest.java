@@ -0,0 +1,102 @@
+package com.epam.rd.autocode.assessment.basics.service;
+
+import com.epam.rd.autocode.assessment.basics.entity.Book;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class StringDictionaryTest {
+
+    @Test
+    @DisplayName("Dictionary returns the cached instance for a repeated value")
+    void testIntern() {
+        StringDictionary dictionary = new StringDictionary(16);
+        String first = dictionary.intern("1;Classics;x", 2, 10);
+        String second = dictionary.intern(new StringBuilder("Classics"), 0, 8);
+        assertEquals("Classics", first);
+        assertSame(first, second);
+        assertEquals(1, dictionary.hits());
+        assertEquals(1, dictionary.misses());
+        assertEquals(0.5, dictionary.hitRate());
+        assertEquals(8, dictionary.savedChars());
+    }
+
+    @Test
+    @DisplayName("Dictionary statistics are formatted independently of the default locale")
+    void testToString() {
+        Locale locale = Locale.getDefault();
+        try {
+            Locale.setDefault(Locale.GERMANY);
+            StringDictionary dictionary = new StringDictionary(16);
+            dictionary.intern("value", 0, 5);
+            dictionary.intern("value", 0, 5);
+            assertEquals("StringDictionary[hits=1, misses=1, hitRate=0.500, savedChars=5]", dictionary.toString());
+        } finally {
+            Locale.setDefault(locale);
+        }
+    }
+
+    @Test
+    @DisplayName("Dictionary stays bounded under many distinct values")
+    void testBounded() {
+        StringDictionary dictionary = new StringDictionary(4);
+        for (int i = 0; i < 10_000; i++) {
+            String value = "value" + i;
+            assertEquals(value, dictionary.intern(value, 0, value.length()));
+        }
+        assertEquals(0, dictionary.hits());
+        assertEquals(10_000, dictionary.misses());
+    }
+
+    @Test
+    @DisplayName("Read interns the configured columns only")
+    void testReadInterned() throws IOException {
+        CsvStorageImpl csvStorage = new CsvStorageImpl(Map.of("quoteCharacter", "'", "valuesDelimiter", ";",
+                "headerLine", "false", "internColumns", "2, 6", "internCapacity", "64"));
+        String data = """
+                1;A;Classics;ADULT;1.5;2022-01-05;'Murakami, Haruki';10;x;y;ENGLISH
+                2;B;Classics;ADULT;2.5;2022-01-05;'Murakami, Haruki';20;x;y;ENGLISH
+                """;
+        Mapper mapper = new MapperImpl();
+        List<Book> books = csvStorage.read(new ByteArrayInputStream(data.getBytes()), mapper::csvToBook);
+        assertSame(books.get(0).getGenre(), books.get(1).getGenre());
+        assertSame(books.get(0).getAuthor(), books.get(1).getAuthor());
+        assertEquals("Murakami, Haruki", books.get(1).getAuthor());
+        assertNotSame(books.get(0).getCharacteristics(), books.get(1).getCharacteristics());
+        assertEquals(2, csvStorage.getDictionary(2).hits() + csvStorage.getDictionary(2).misses());
+        assertEquals(1, csvStorage.getDictionary(6).hits());
+        assertNull(csvStorage.getDictionary(3));
+    }
+
+    @Test
+    @DisplayName("Header line is not interned")
+    void testHeaderNotInterned() throws IOException {
+        CsvStorageImpl csvStorage = new CsvStorageImpl(Map.of("quoteCharacter", "'", "valuesDelimiter", ";",
+                "internColumns", "2", "internCapacity", "64"));
+        String data = """
+                id;name;genre;ageGroup;price;publicationDate;author;numberOfPages;characteristics;description;language
+                1;A;Classics;ADULT;1.5;2022-01-05;x;10;x;y;ENGLISH
+                2;B;Classics;ADULT;2.5;2022-01-05;x;20;x;y;ENGLISH
+                """;
+        List<Book> books = csvStorage.read(new ByteArrayInputStream(data.getBytes()), EntityCodec.books());
+        assertEquals("Classics", books.get(1).getGenre());
+        assertEquals(1, csvStorage.getDictionary(2).hits());
+        assertEquals(1, csvStorage.getDictionary(2).misses());
+
+        List<String[]> rows = csvStorage.read(new ByteArrayInputStream(data.getBytes()), values -> values,
+                CsvProjection.names("genre"));
+        assertEquals(2, rows.size());
+        assertEquals(3, csvStorage.getDictionary(2).hits());
+        assertEquals(1, csvStorage.getDictionary(2).misses());
+    }
+}
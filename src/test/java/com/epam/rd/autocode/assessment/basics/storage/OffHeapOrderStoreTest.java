@@ -0,0 +1,95 @@
+package com.epam.rd.autocode.assessment.basics.storage;
+
+import com.epam.rd.autocode.assessment.basics.entity.Order;
+import com.epam.rd.autocode.assessment.basics.service.CsvStorageImpl;
+import com.epam.rd.autocode.assessment.basics.service.MapperImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class OffHeapOrderStoreTest {
+
+    @Test
+    @DisplayName("Store loaded from csv returns the orders the mapper reads")
+    void testLoad() throws IOException {
+        String data = """
+                id,clientId,employeeId,bookId,numberOfBooks,orderDate,price
+                1,10,100,1000,2,2024-01-01T10:00,1.50
+                2,20,200,2000,3,,
+                3,30,300,3000,4,2024-03-01T10:15:30,7
+                """;
+        CsvStorageImpl csvStorage = new CsvStorageImpl();
+        OffHeapOrderStore store = OffHeapOrderStore.load(csvStorage, new ByteArrayInputStream(data.getBytes()), 2);
+        List<Order> expected = csvStorage.read(new ByteArrayInputStream(data.getBytes()), new MapperImpl()::csvToOrder);
+
+        assertEquals(3, store.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Order order = store.get(i);
+            Order reference = expected.get(i);
+            assertEquals(reference.getId(), order.getId());
+            assertEquals(reference.getBookId(), order.getBookId());
+            assertEquals(reference.getOrderDate(), order.getOrderDate());
+            assertEquals(reference.getPrice() == null ? null : reference.getPrice().setScale(2), order.getPrice());
+        }
+        assertEquals(OffHeapOrderStore.NULL, store.getPriceMinorUnits(1));
+        assertEquals(OffHeapOrderStore.NULL, store.getOrderEpochSecond(1));
+        assertEquals(9, store.sumNumberOfBooks());
+        assertEquals(850, store.sumPriceMinorUnits());
+    }
+
+    @Test
+    @DisplayName("Store spans several column segments")
+    void testManySegments() {
+        OffHeapOrderStore store = new OffHeapOrderStore(2);
+        int count = (1 << 20) * 2 + 5;
+        LocalDateTime date = LocalDateTime.of(2024, 1, 1, 0, 0);
+        for (int i = 0; i < count; i++) {
+            store.append(new Order(i, i % 7, 1, i % 11, 1, date, BigDecimal.ONE));
+        }
+        assertEquals(count, store.size());
+        assertEquals(count - 1, store.getId(count - 1));
+        assertEquals(4097 % 7, store.getClientId(4097));
+        assertEquals((1 << 20) - 1, store.getId((1 << 20) - 1));
+        assertEquals((count - 1) % 11, store.getBookId(count - 1));
+        assertEquals(count, store.sumNumberOfBooks());
+        assertEquals(100L * count, store.sumPriceMinorUnits());
+        assertThrows(IndexOutOfBoundsException.class, () -> store.getId(count));
+    }
+
+    @Test
+    @DisplayName("Missing trailing columns of a short row are stored as empty")
+    void testShortRows() throws IOException {
+        String data = """
+                id,clientId,employeeId,bookId,numberOfBooks,orderDate,price
+                1,10,100,1000,2,2024-01-01T10:00
+                2,20
+                """;
+        try (OffHeapOrderStore store = OffHeapOrderStore.load(new CsvStorageImpl(),
+                new ByteArrayInputStream(data.getBytes()), 2)) {
+            assertEquals(2, store.size());
+            assertEquals(LocalDateTime.of(2024, 1, 1, 10, 0), store.get(0).getOrderDate());
+            assertEquals(OffHeapOrderStore.NULL, store.getPriceMinorUnits(0));
+            assertEquals(new Order(2, 20, 0, 0, 0, null, null), store.get(1));
+        }
+    }
+
+    @Test
+    @DisplayName("Closed store rejects further use")
+    void testClose() {
+        OffHeapOrderStore store = new OffHeapOrderStore(2);
+        Order order = new Order(1, 10, 100, 1000, 2, null, null);
+        store.append(order);
+        store.close();
+        assertThrows(IllegalStateException.class, () -> store.get(0));
+        assertThrows(IllegalStateException.class, store::sumNumberOfBooks);
+        assertThrows(IllegalStateException.class, () -> store.append(order));
+    }
+}
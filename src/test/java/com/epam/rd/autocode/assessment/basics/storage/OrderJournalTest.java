@@ -0,0 +1,152 @@
+package com.epam.rd.autocode.assessment.basics.storage;
+
+import com.epam.rd.autocode.assessment.basics.entity.Order;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertIterableEquals;
+
+class OrderJournalTest {
+
+    private static final List<Order> ORDERS = List.of(
+            new Order(4, 3, 1, 5, 20, LocalDateTime.parse("2021-11-11T10:10"), new BigDecimal("140")),
+            new Order(0, 0, 0, 0, 0, null, null),
+            new Order(-1, Long.MAX_VALUE, 2, 9, 12, LocalDateTime.parse("2022-09-04T00:00:00.123456789"),
+                    new BigDecimal("-12345678901234567890.125")));
+
+    @Test
+    @DisplayName("Journal replays appended orders after reopening")
+    void testReopen(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("orders.journal");
+        List<Long> offsets = new ArrayList<>();
+        try (OrderJournal journal = OrderJournal.open(file, Duration.ZERO)) {
+            for (Order order : ORDERS) {
+                offsets.add(journal.append(order));
+            }
+        }
+        try (OrderJournal journal = OrderJournal.open(file, Duration.ZERO)) {
+            assertEquals(0, journal.truncatedBytes());
+            assertIterableEquals(ORDERS, replay(journal));
+            assertEquals(ORDERS.get(2), journal.read(offsets.get(2)));
+        }
+    }
+
+    public static Stream<Arguments> casesTornTail() {
+        return Stream.of(
+                Arguments.of("Record cut in the payload", -5, false),
+                Arguments.of("Record cut in the frame", 3, true),
+                Arguments.of("Corrupt last byte", 0, false)
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("casesTornTail")
+    @DisplayName("Journal recovery truncates a torn or corrupt last record")
+    void testTornTail(String name, int change, boolean appendFrame, @TempDir Path dir) throws IOException {
+        Path file = dir.resolve("orders.journal");
+        try (OrderJournal journal = OrderJournal.open(file, Duration.ZERO)) {
+            for (Order order : ORDERS) {
+                journal.append(order);
+            }
+        }
+        long full = Files.size(file);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            if (appendFrame) {
+                channel.write(ByteBuffer.allocate(change), full);
+            } else if (change < 0) {
+                channel.truncate(full + change);
+            } else {
+                channel.write(ByteBuffer.wrap(new byte[]{(byte) 0xff}), full - 1);
+            }
+        }
+        int kept = appendFrame ? 3 : 2;
+        long end = journalEnd(file, kept);
+        long damaged = Files.size(file);
+        try (OrderJournal journal = OrderJournal.open(file, Duration.ZERO)) {
+            assertEquals(end, journal.size());
+            assertEquals(damaged - end, journal.truncatedBytes());
+            assertIterableEquals(ORDERS.subList(0, kept), replay(journal));
+            journal.append(ORDERS.get(2));
+        }
+        try (OrderJournal journal = OrderJournal.open(file, Duration.ZERO)) {
+            assertEquals(0, journal.truncatedBytes());
+            List<Order> orders = replay(journal);
+            assertEquals(ORDERS.get(2), orders.get(orders.size() - 1));
+        }
+    }
+
+    @Test
+    @DisplayName("Concurrent appenders all become durable")
+    void testGroupCommit(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("orders.journal");
+        int threads = 8;
+        int perThread = 200;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try (OrderJournal journal = OrderJournal.open(file, Duration.ofMillis(1))) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int offset = t * perThread;
+                futures.add(pool.submit(() -> {
+                    for (int i = 1; i <= perThread; i++) {
+                        journal.append(new Order(offset + i, 1, 2, 3, 1, null, BigDecimal.ONE));
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+        try (OrderJournal journal = OrderJournal.open(file, Duration.ZERO)) {
+            List<Order> orders = replay(journal);
+            orders.sort(Comparator.comparingLong(Order::getId));
+            assertEquals(threads * perThread, orders.size());
+            for (int i = 0; i < orders.size(); i++) {
+                assertEquals(i + 1, orders.get(i).getId());
+            }
+        }
+    }
+
+    private static List<Order> replay(OrderJournal journal) throws IOException {
+        List<Order> orders = new ArrayList<>();
+        journal.forEach(orders::add);
+        return orders;
+    }
+
+    private static long journalEnd(Path file, int records) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long offset = 8;
+            ByteBuffer length = ByteBuffer.allocate(4);
+            for (int i = 0; i < records; i++) {
+                length.clear();
+                channel.read(length, offset);
+                offset += 8 + length.getInt(0);
+            }
+            return offset;
+        }
+    }
+}
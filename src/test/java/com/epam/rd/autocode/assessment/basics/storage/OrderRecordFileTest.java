@@ -0,0 +1,70 @@
+package com.epam.rd.autocode.assessment.basics.storage;
+
+import com.epam.rd.autocode.assessment.basics.entity.Order;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertIterableEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class OrderRecordFileTest {
+
+    private static final List<Order> ORDERS = List.of(
+            new Order(4, 3, 1, 5, 20, LocalDateTime.parse("2021-11-11T10:10"), new BigDecimal("140")),
+            new Order(0, 0, 0, 0, 0, null, null),
+            new Order(-1, Long.MAX_VALUE, 2, 9, 12, LocalDateTime.parse("1969-12-31T23:59:59"),
+                    new BigDecimal("-123.4500")));
+
+    @Test
+    @DisplayName("Record file returns the written orders by index and range")
+    void testRoundTrip(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("orders.bin");
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            Order order = ORDERS.get(i % ORDERS.size());
+            orders.add(new Order(i, order.getClientId(), order.getEmployeeId(), order.getBookId(),
+                    order.getNumberOfBooks(), order.getOrderDate(), order.getPrice()));
+        }
+        assertEquals(orders.size(), OrderRecordFile.write(file, orders.iterator()));
+        assertEquals(16 + 56L * orders.size(), Files.size(file));
+
+        OrderRecordFile records = OrderRecordFile.open(file);
+        assertEquals(orders.size(), records.size());
+        assertEquals(orders.get(4_321), records.get(4_321));
+        assertIterableEquals(orders.subList(100, 200), records.range(100, 200));
+        assertIterableEquals(orders, records.range(0, records.size()));
+        assertEquals(Long.MIN_VALUE, records.getOrderEpochSecond(1));
+        assertEquals(-1234500, records.getPriceUnscaled(2));
+        assertEquals(4, records.getPriceScale(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> records.get(orders.size()));
+    }
+
+    public static Stream<Arguments> casesUnsupported() {
+        return Stream.of(
+                Arguments.of(new Order(1, 1, 1, 1, 1, LocalDateTime.parse("2021-11-11T10:10:00.5"), null)),
+                Arguments.of(new Order(1, 1, 1, 1, 1, null, new BigDecimal("12345678901234567890")))
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("casesUnsupported")
+    @DisplayName("Record file rejects values that do not fit the fixed layout")
+    void testUnsupported(Order order, @TempDir Path dir) {
+        assertThrows(IllegalArgumentException.class,
+                () -> OrderRecordFile.write(dir.resolve("orders.bin"), List.of(order).iterator()));
+    }
+}